@@ -1,6 +1,9 @@
 package Actions;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.ExpectedConditions;
@@ -10,12 +13,13 @@ import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
 
 import Base.BaseTest;
+import Base.DriverContext;
 
 public class ActionEngine extends BaseTest {
-    protected static ExtentTest reportLogger;
 
+    // ✅ Bind a report logger to the current thread (resolved through DriverContext)
     public static void setLogger(ExtentTest logger) {
-        reportLogger = logger;
+        DriverContext.setLogger(logger);
     }
 
     // ✅ Wait for seconds
@@ -30,20 +34,50 @@ public class ActionEngine extends BaseTest {
     // ✅ Click
     public void click(By locator, String locatorName) {
         try {
-            new WebDriverWait(webDriver, Duration.ofSeconds(20))
-                .until(ExpectedConditions.elementToBeClickable(locator));
-            webDriver.findElement(locator).click();
+            WebElement el = resolve(locator, Duration.ofSeconds(20), true);
+            try {
+                el.click();
+            } catch (StaleElementReferenceException stale) {
+                // Re-rendered between lookup and click
+                ElementCache.evict(getDriver(), locator, null);
+                resolve(locator, Duration.ofSeconds(20), true).click();
+            }
             logSuccess("Clicked on: " + locatorName);
         } catch (Exception e) {
             logFailure("Click failed on: " + locatorName, e);
         }
     }
 
+    // ✅ Element lookup through the page's ElementCache: a cached element only has to pass the
+    //    visible/clickable check once more; otherwise wait for the locator and cache the result
+    private WebElement resolve(By locator, Duration timeout, boolean clickable) {
+        WebDriver driver = getDriver();
+        WebElement cached = ElementCache.get(driver, locator, null);
+        if (cached != null) {
+            try {
+                WebElement ready = (clickable ? ExpectedConditions.elementToBeClickable(cached)
+                    : ExpectedConditions.visibilityOf(cached)).apply(driver);
+                if (ready != null) {
+                    ElementCache.hit();
+                    return ready;
+                }
+            } catch (StaleElementReferenceException | NoSuchElementException e) {
+                // Gone from the page (or from this window/frame); look it up again
+            }
+            ElementCache.evict(driver, locator, null);
+        }
+        WebElement el = WaitEngine.on(driver, timeout).until(clickable
+            ? ExpectedConditions.elementToBeClickable(locator)
+            : ExpectedConditions.visibilityOfElementLocated(locator));
+        ElementCache.put(driver, locator, null, el);
+        return el;
+    }
+
     // ✅ JS Click
     public void jsClick(By locator, String locatorName) {
         try {
-            WebElement element = webDriver.findElement(locator);
-            ((JavascriptExecutor) webDriver).executeScript("arguments[0].click();", element);
+            WebElement element = getDriver().findElement(locator);
+            ((JavascriptExecutor) getDriver()).executeScript("arguments[0].click();", element);
             logSuccess("JS Clicked on: " + locatorName);
         } catch (Exception e) {
             logFailure("JS Click failed on: " + locatorName, e);
@@ -53,28 +87,26 @@ public class ActionEngine extends BaseTest {
     // ✅ Type
     public void type(By locator, String data, String locatorName) {
         try {
-            WebDriverWait wait = new WebDriverWait(webDriver, Duration.ofSeconds(30));
-            wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
-
-            WebElement el = webDriver.findElement(locator);
+            WebDriverWait wait = WaitEngine.on(getDriver(), Duration.ofSeconds(30));
+            WebElement el = resolve(locator, Duration.ofSeconds(30), false);
 
             // Scroll into view and try focusing
-            try { ((JavascriptExecutor) webDriver).executeScript("arguments[0].scrollIntoView({block:'center'});", el); } catch (Exception ignore) {}
-            try { ((JavascriptExecutor) webDriver).executeScript("arguments[0].focus();", el); } catch (Exception ignore) {}
+            try { ((JavascriptExecutor) getDriver()).executeScript("arguments[0].scrollIntoView({block:'center'});", el); } catch (Exception ignore) {}
+            try { ((JavascriptExecutor) getDriver()).executeScript("arguments[0].focus();", el); } catch (Exception ignore) {}
 
             // Click with retry to ensure caret focus
             try {
-                wait.until(ExpectedConditions.elementToBeClickable(locator));
+                wait.until(ExpectedConditions.elementToBeClickable(el));
                 el.click();
             } catch (Exception clickEx) {
-                try { ((JavascriptExecutor) webDriver).executeScript("arguments[0].click();", el); } catch (Exception ignore) {}
+                try { ((JavascriptExecutor) getDriver()).executeScript("arguments[0].click();", el); } catch (Exception ignore) {}
             }
 
             // Clear with JS fallback if normal clear fails
             try {
                 el.clear();
             } catch (Exception clr) {
-                try { ((JavascriptExecutor) webDriver).executeScript("arguments[0].value='';", el); } catch (Exception ignore) {}
+                try { ((JavascriptExecutor) getDriver()).executeScript("arguments[0].value='';", el); } catch (Exception ignore) {}
             }
 
             el.sendKeys(data);
@@ -86,15 +118,30 @@ public class ActionEngine extends BaseTest {
 
     // ✅ Get Text
     public String getText(By locator, String locatorName) {
-        waitForElementToBeVisible(locator, locatorName);
-        String text = webDriver.findElement(locator).getText().trim();
+        String text;
+        try {
+            text = resolve(locator, settings.getDefaultWait(), false).getText().trim();
+        } catch (StaleElementReferenceException stale) {
+            ElementCache.evict(getDriver(), locator, null);
+            text = resolve(locator, settings.getDefaultWait(), false).getText().trim();
+        }
         logSuccess("Got text from: " + locatorName + " → " + text);
         return text;
     }
 
-    // ✅ Wait for element clickable
+    // ✅ Bulk read: text/attributes/styles/visibility of all matching elements in one script call
+    public BulkReader bulkRead(By locator) {
+        return BulkReader.of(getDriver(), locator);
+    }
+
+    // ✅ Bulk read of elements already found
+    public BulkReader bulkRead(List<WebElement> elements) {
+        return BulkReader.of(getDriver(), elements);
+    }
+
+    // ✅ Wait for element clickable (defaultWait)
     public void waitForElementToBeClickable(By locator, String elementName) {
-        new WebDriverWait(webDriver, Duration.ofSeconds(40))
+        WaitEngine.on(getDriver(), settings.getDefaultWait())
             .until(ExpectedConditions.elementToBeClickable(locator));
     }
     
@@ -102,28 +149,73 @@ public class ActionEngine extends BaseTest {
     
     
 
-    // ✅ Wait for element visible
+    // ✅ Wait until the app is ready after a navigation (see PageReadiness); fails the step on timeout
+    public void waitForPageReady() {
+        Duration timeout = settings.getPageReadyTimeout();
+        if (!PageReadiness.waitUntilReady(getDriver(), timeout)) {
+            TimeoutException e = new TimeoutException("Page not ready after " + timeout.getSeconds() + "s: "
+                + getDriver().getCurrentUrl());
+            logFailure("Page not ready after " + timeout.getSeconds() + "s", e);
+            throw e;
+        }
+    }
+
+    // ✅ Page state before a click that navigates; see waitForNavigation
+    public static final class PageMark {
+        final String url;
+        final WebElement document;
+        final int windows;
+
+        PageMark(String url, WebElement document, int windows) {
+            this.url = url;
+            this.document = document;
+            this.windows = windows;
+        }
+    }
+
+    public PageMark markPage() {
+        WebDriver driver = getDriver();
+        return new PageMark(driver.getCurrentUrl(), driver.findElement(By.tagName("html")),
+            driver.getWindowHandles().size());
+    }
+
+    // ✅ Wait until the page marked before a click is left (URL change, old document gone or a new
+    //    window), then for readiness - so the readiness check cannot pass on the old page
+    public void waitForNavigation(PageMark before) {
+        try {
+            WaitEngine.on(getDriver(), settings.getPageReadyTimeout()).until(d ->
+                !before.url.equals(d.getCurrentUrl())
+                    || d.getWindowHandles().size() != before.windows
+                    || ExpectedConditions.stalenessOf(before.document).apply(d));
+        } catch (TimeoutException e) {
+            System.out.println("⚠️ No navigation away from " + before.url + " after "
+                + settings.getPageReadyTimeout().getSeconds() + "s");
+        }
+        waitForPageReady();
+    }
+
+    // ✅ Wait for element visible (defaultWait)
     public void waitForElementToBeVisible(By locator, String elementName) {
-        new WebDriverWait(webDriver, Duration.ofSeconds(40))
+        WaitEngine.on(getDriver(), settings.getDefaultWait())
             .until(ExpectedConditions.visibilityOfElementLocated(locator));
     }
 
-    // ✅ Check element present
+    // ✅ Check element present (visible within probeBudgetMs; use a wait for elements that must appear)
     public boolean isElementPresent(By locator, String locatorName) {
-        try {
-            new WebDriverWait(webDriver, Duration.ofSeconds(20))
-                .until(ExpectedConditions.visibilityOfElementLocated(locator));
-            return webDriver.findElement(locator).isDisplayed();
-        } catch (Exception e) {
-            return false;
-        }
+        return isElementPresent(locator, locatorName, settings.getProbeBudget());
+    }
+
+    // ✅ Check element present within an explicit budget (Duration.ZERO = check now)
+    public boolean isElementPresent(By locator, String locatorName, Duration budget) {
+        return Probe.visibleWithin(getDriver(), locator, budget);
     }
 
     // ✅ Handle Password Change Popup
     public void handlePasswordChangePopup() {
         try {
             By popupOkButton = By.xpath("//button[normalize-space()='OK']");
-            if (isElementPresent(popupOkButton, "Password Change Popup OK Button")) {
+            // The popup is rare; give it a short budget instead of a full wait
+            if (isElementPresent(popupOkButton, "Password Change Popup OK Button", settings.getProbeBudget())) {
                 click(popupOkButton, "Password Change Popup OK Button");
                 logSuccess("🟢 Password change popup handled successfully.");
             } else {
@@ -137,6 +229,7 @@ public class ActionEngine extends BaseTest {
     // ✅ Logging helpers (safe)
     private void logSuccess(String message) {
         System.out.println("✅ " + message);
+        ExtentTest reportLogger = getReportLogger();
         if (reportLogger != null) {
             reportLogger.log(Status.PASS, message);
         }
@@ -144,6 +237,7 @@ public class ActionEngine extends BaseTest {
 
     private void logFailure(String message, Exception e) {
         System.out.println("❌ " + message);
+        ExtentTest reportLogger = getReportLogger();
         if (reportLogger != null) {
             reportLogger.log(Status.FAIL, message + "<br>" + e);
         }
@@ -151,7 +245,7 @@ public class ActionEngine extends BaseTest {
 
     public WebElement getWebElement(By locator) throws Throwable {
         try {
-            WebDriverWait wait = new WebDriverWait(webDriver, Duration.ofSeconds(20));
+            WebDriverWait wait = WaitEngine.on(getDriver(), Duration.ofSeconds(20));
             return wait.until(ExpectedConditions.presenceOfElementLocated(locator));
         } catch (Exception e) {
             logFailure("Element not found: " + locator.toString(), e);
@@ -165,21 +259,21 @@ public class ActionEngine extends BaseTest {
     public void switchToModalWindow(By modalLocator, String locatorName) throws Throwable {
         try {
             // Store parent window handle
-            String parentWindow = webDriver.getWindowHandle();
-            java.util.Set<String> allWindows = webDriver.getWindowHandles();
+            String parentWindow = getDriver().getWindowHandle();
+            java.util.Set<String> allWindows = getDriver().getWindowHandles();
 
             // Wait until a new window appears (modal popup)
             int attempts = 0;
             while (allWindows.size() == 1 && attempts < 10) {
                 waitForSeconds(1);
-                allWindows = webDriver.getWindowHandles();
+                allWindows = getDriver().getWindowHandles();
                 attempts++;
             }
 
             // Switch to the new (modal) window
             for (String window : allWindows) {
                 if (!window.equals(parentWindow)) {
-                    webDriver.switchTo().window(window);
+                    getDriver().switchTo().window(window);
                     break;
                 }
             }
@@ -188,7 +282,7 @@ public class ActionEngine extends BaseTest {
             waitForElementToBeVisible(modalLocator, locatorName);
             WebElement modalElement = getWebElement(modalLocator);
 
-            ((JavascriptExecutor) webDriver).executeScript(
+            ((JavascriptExecutor) getDriver()).executeScript(
                 "arguments[0].style.border='2px solid blue';", modalElement);
 
             logSuccess("Switched to modal popup: " + locatorName);
@@ -200,8 +294,8 @@ public class ActionEngine extends BaseTest {
     // ✅ Switch back to Parent Window
     public void switchToParentWindow() {
         try {
-            String parentWindow = webDriver.getWindowHandles().iterator().next();
-            webDriver.switchTo().window(parentWindow);
+            String parentWindow = getDriver().getWindowHandles().iterator().next();
+            getDriver().switchTo().window(parentWindow);
             logSuccess("Switched back to parent window successfully.");
         } catch (Exception e) {
             logFailure("Failed to switch back to parent window.", e);
@@ -218,7 +312,7 @@ public class ActionEngine extends BaseTest {
      */
     public void handleJavaScriptAlert(boolean accept) {
         try {
-            WebDriverWait wait = new WebDriverWait(webDriver, Duration.ofSeconds(10));
+            WebDriverWait wait = WaitEngine.on(getDriver(), Duration.ofSeconds(10));
             Alert alert = wait.until(ExpectedConditions.alertIsPresent());
             
             String alertText = alert.getText();
@@ -242,7 +336,7 @@ public class ActionEngine extends BaseTest {
      */
     public void handleJavaScriptConfirm(boolean accept) {
         try {
-            WebDriverWait wait = new WebDriverWait(webDriver, Duration.ofSeconds(10));
+            WebDriverWait wait = WaitEngine.on(getDriver(), Duration.ofSeconds(10));
             Alert alert = wait.until(ExpectedConditions.alertIsPresent());
             
             String confirmText = alert.getText();
@@ -266,7 +360,7 @@ public class ActionEngine extends BaseTest {
      */
     public void handleJavaScriptPrompt(String textToEnter, boolean accept) {
         try {
-            WebDriverWait wait = new WebDriverWait(webDriver, Duration.ofSeconds(10));
+            WebDriverWait wait = WaitEngine.on(getDriver(), Duration.ofSeconds(10));
             Alert alert = wait.until(ExpectedConditions.alertIsPresent());
             
             String promptText = alert.getText();
@@ -295,7 +389,7 @@ public class ActionEngine extends BaseTest {
      */
     public boolean isAlertPresent() {
         try {
-            WebDriverWait wait = new WebDriverWait(webDriver, Duration.ofSeconds(5));
+            WebDriverWait wait = WaitEngine.on(getDriver(), Duration.ofSeconds(5));
             wait.until(ExpectedConditions.alertIsPresent());
             return true;
         } catch (Exception e) {
@@ -309,7 +403,7 @@ public class ActionEngine extends BaseTest {
      */
     public String getAlertText() {
         try {
-            WebDriverWait wait = new WebDriverWait(webDriver, Duration.ofSeconds(5));
+            WebDriverWait wait = WaitEngine.on(getDriver(), Duration.ofSeconds(5));
             Alert alert = wait.until(ExpectedConditions.alertIsPresent());
             return alert.getText();
         } catch (Exception e) {
@@ -323,11 +417,11 @@ public class ActionEngine extends BaseTest {
      */
     public boolean waitForHTMLModal(By modalLocator, int timeoutSeconds) {
         try {
-            WebDriverWait wait = new WebDriverWait(webDriver, Duration.ofSeconds(timeoutSeconds));
+            WebDriverWait wait = WaitEngine.on(getDriver(), Duration.ofSeconds(timeoutSeconds));
             WebElement modal = wait.until(ExpectedConditions.visibilityOfElementLocated(modalLocator));
             
             // Highlight modal for visibility
-            ((JavascriptExecutor) webDriver).executeScript(
+            ((JavascriptExecutor) getDriver()).executeScript(
                 "arguments[0].style.border='3px solid red';", modal);
             
             logSuccess("HTML Modal is visible: " + modalLocator.toString());
@@ -343,7 +437,7 @@ public class ActionEngine extends BaseTest {
      */
     public boolean isHTMLModalVisible(By modalLocator) {
         try {
-            WebElement modal = webDriver.findElement(modalLocator);
+            WebElement modal = getDriver().findElement(modalLocator);
             return modal.isDisplayed();
         } catch (Exception e) {
             return false;
@@ -390,7 +484,7 @@ public class ActionEngine extends BaseTest {
             click(closeButtonLocator, "Modal Close Button");
             
             // Wait for modal to disappear
-            WebDriverWait wait = new WebDriverWait(webDriver, Duration.ofSeconds(5));
+            WebDriverWait wait = WaitEngine.on(getDriver(), Duration.ofSeconds(5));
             wait.until(ExpectedConditions.invisibilityOfElementLocated(closeButtonLocator));
             
             logSuccess("HTML Modal closed successfully");
@@ -404,7 +498,7 @@ public class ActionEngine extends BaseTest {
      */
     public void closeModalWithEscape() {
         try {
-            Actions action = new Actions(webDriver);
+            Actions action = new Actions(getDriver());
             action.sendKeys(Keys.ESCAPE).build().perform();
             waitForSeconds(1);
             logSuccess("Modal closed using ESC key");
@@ -418,7 +512,7 @@ public class ActionEngine extends BaseTest {
      */
     public void closeModalByClickingBackdrop(By backdropLocator) {
         try {
-            WebElement backdrop = webDriver.findElement(backdropLocator);
+            WebElement backdrop = getDriver().findElement(backdropLocator);
             backdrop.click();
             waitForSeconds(1);
             logSuccess("Modal closed by clicking backdrop");
@@ -435,7 +529,7 @@ public class ActionEngine extends BaseTest {
 
     public void storeParentWindow() {
         try {
-            parentWindowHandle = webDriver.getWindowHandle();
+            parentWindowHandle = getDriver().getWindowHandle();
             logSuccess("Parent window handle stored: " + parentWindowHandle);
         } catch (Exception e) {
             logFailure("Failed to store parent window handle", e);
@@ -453,16 +547,16 @@ public class ActionEngine extends BaseTest {
             }
 
             // Wait for new window to appear
-            WebDriverWait wait = new WebDriverWait(webDriver, Duration.ofSeconds(15));
+            WebDriverWait wait = WaitEngine.on(getDriver(), Duration.ofSeconds(15));
             wait.until(ExpectedConditions.numberOfWindowsToBe(2));
 
             // Get all window handles
-            java.util.Set<String> allWindows = webDriver.getWindowHandles();
+            java.util.Set<String> allWindows = getDriver().getWindowHandles();
             
             // Switch to the new window
             for (String window : allWindows) {
                 if (!window.equals(parentWindowHandle)) {
-                    webDriver.switchTo().window(window);
+                    getDriver().switchTo().window(window);
                     System.out.println("🪟 Switched to popup window: " + window);
                     
                     // Wait for modal element to be visible in popup
@@ -484,17 +578,17 @@ public class ActionEngine extends BaseTest {
     public void closeCurrentWindowAndSwitchToParent() {
         try {
             // Close current window
-            webDriver.close();
+            getDriver().close();
             System.out.println("🪟 Closed popup window");
             
             // Switch back to parent
             if (parentWindowHandle != null) {
-                webDriver.switchTo().window(parentWindowHandle);
+                getDriver().switchTo().window(parentWindowHandle);
                 logSuccess("Switched back to parent window");
             } else {
                 // Fallback: switch to first available window
-                String firstWindow = webDriver.getWindowHandles().iterator().next();
-                webDriver.switchTo().window(firstWindow);
+                String firstWindow = getDriver().getWindowHandles().iterator().next();
+                getDriver().switchTo().window(firstWindow);
                 logSuccess("Switched to first available window");
             }
         } catch (Exception e) {
@@ -507,7 +601,7 @@ public class ActionEngine extends BaseTest {
      */
     public int getWindowCount() {
         try {
-            return webDriver.getWindowHandles().size();
+            return getDriver().getWindowHandles().size();
         } catch (Exception e) {
             return 0;
         }
@@ -518,7 +612,7 @@ public class ActionEngine extends BaseTest {
      */
     public boolean waitForNewWindow(int expectedWindowCount, int timeoutSeconds) {
         try {
-            WebDriverWait wait = new WebDriverWait(webDriver, Duration.ofSeconds(timeoutSeconds));
+            WebDriverWait wait = WaitEngine.on(getDriver(), Duration.ofSeconds(timeoutSeconds));
             wait.until(ExpectedConditions.numberOfWindowsToBe(expectedWindowCount));
             logSuccess("New window appeared. Total windows: " + expectedWindowCount);
             return true;
@@ -533,11 +627,11 @@ public class ActionEngine extends BaseTest {
      */
     public boolean switchToWindowByTitle(String windowTitle) {
         try {
-            java.util.Set<String> allWindows = webDriver.getWindowHandles();
+            java.util.Set<String> allWindows = getDriver().getWindowHandles();
             
             for (String window : allWindows) {
-                webDriver.switchTo().window(window);
-                if (webDriver.getTitle().contains(windowTitle)) {
+                getDriver().switchTo().window(window);
+                if (getDriver().getTitle().contains(windowTitle)) {
                     logSuccess("Switched to window with title: " + windowTitle);
                     return true;
                 }
@@ -589,7 +683,7 @@ public class ActionEngine extends BaseTest {
         
         try {
             // Wait for element to be visible and clickable
-            WebDriverWait wait = new WebDriverWait(webDriver, Duration.ofSeconds(20));
+            WebDriverWait wait = WaitEngine.on(getDriver(), Duration.ofSeconds(20));
             element = wait.until(ExpectedConditions.elementToBeClickable(locator));
             
             // Additional wait for modal animations
@@ -597,43 +691,40 @@ public class ActionEngine extends BaseTest {
             
             // Scroll into view silently
             try {
-                ((JavascriptExecutor) webDriver).executeScript(
+                ((JavascriptExecutor) getDriver()).executeScript(
                     "arguments[0].scrollIntoView({block:'center', behavior:'instant'});", element);
                 Thread.sleep(200);
             } catch (Exception ignored) {}
             
-            // Focus on element - try click first, then JS
+            // Focus on element - best known of click / JS focus first
+            final WebElement field = element;
+            Map<String, StrategyRanker.Attempt> focus = new LinkedHashMap<>();
+            focus.put("click", field::click);
+            focus.put("JS focus", () -> ((JavascriptExecutor) getDriver()).executeScript("arguments[0].focus();", field));
             try {
-                element.click();
-            } catch (Exception e1) {
-                try {
-                    ((JavascriptExecutor) webDriver).executeScript("arguments[0].focus();", element);
-                } catch (Exception ignored) {}
-            }
+                StrategyRanker.run("ActionEngine.typeInModal.focus", locator, focus);
+            } catch (Exception ignored) {}
             
             // Clear existing text
             try {
                 element.clear();
             } catch (Exception e) {
                 try {
-                    ((JavascriptExecutor) webDriver).executeScript("arguments[0].value='';", element);
+                    ((JavascriptExecutor) getDriver()).executeScript("arguments[0].value='';", element);
                 } catch (Exception ignored) {}
             }
             
-            // Type text - try normal sendKeys first
+            // Type text - best known of sendKeys / JS setValue first
+            Map<String, StrategyRanker.Attempt> entry = new LinkedHashMap<>();
+            entry.put("sendKeys", () -> field.sendKeys(text));
+            entry.put("JS setValue", () -> ((JavascriptExecutor) getDriver()).executeScript(
+                "arguments[0].value = arguments[1]; arguments[0].dispatchEvent(new Event('input', { bubbles: true }));",
+                field, text));
             try {
-                element.sendKeys(text);
+                StrategyRanker.run("ActionEngine.typeInModal", locator, entry);
                 success = true;
-            } catch (Exception e1) {
-                // Fallback: Use JavaScript to set value
-                try {
-                    ((JavascriptExecutor) webDriver).executeScript(
-                        "arguments[0].value = arguments[1]; arguments[0].dispatchEvent(new Event('input', { bubbles: true }));", 
-                        element, text);
-                    success = true;
-                } catch (Exception e2) {
-                    throw new Exception("Both sendKeys and JS setValue failed: " + e2.getMessage());
-                }
+            } catch (Exception e2) {
+                throw new Exception("Both sendKeys and JS setValue failed: " + e2.getMessage());
             }
             
             // Verify text was entered
@@ -676,7 +767,7 @@ public class ActionEngine extends BaseTest {
         
         try {
             // Wait for element to be clickable with longer timeout
-            WebDriverWait wait = new WebDriverWait(webDriver, Duration.ofSeconds(20));
+            WebDriverWait wait = WaitEngine.on(getDriver(), Duration.ofSeconds(20));
             WebElement element = wait.until(ExpectedConditions.elementToBeClickable(locator));
             
             // Brief wait for any animations
@@ -684,47 +775,24 @@ public class ActionEngine extends BaseTest {
             
             // Scroll into view (silent fallback)
             try {
-                ((JavascriptExecutor) webDriver).executeScript(
+                ((JavascriptExecutor) getDriver()).executeScript(
                     "arguments[0].scrollIntoView({block:'center', behavior:'instant'});", element);
                 Thread.sleep(300);
             } catch (Exception ignored) {}
             
-            // Method 1: Try standard click
+            // Native, Actions, JS and button-ancestor click; the one that worked before goes first
+            Map<String, StrategyRanker.Attempt> strategies = new LinkedHashMap<>();
+            strategies.put("click", element::click);
+            strategies.put("Actions click", () -> new Actions(getDriver()).moveToElement(element).click().perform());
+            strategies.put("JS click", () -> ((JavascriptExecutor) getDriver()).executeScript("arguments[0].click();", element));
+            strategies.put("button ancestor JS click", () -> ((JavascriptExecutor) getDriver()).executeScript(
+                "arguments[0].click();", element.findElement(By.xpath("./ancestor-or-self::button"))));
             try {
-                element.click();
+                String used = StrategyRanker.run("ActionEngine.clickElementInModal", locator, strategies);
                 clicked = true;
-                logSuccess("Clicked element in modal: " + elementName);
-            } catch (Exception e1) {
-                lastException = e1;
-                
-                // Method 2: Try Actions click
-                try {
-                    Actions actions = new Actions(webDriver);
-                    actions.moveToElement(element).click().perform();
-                    clicked = true;
-                    logSuccess("Actions clicked element in modal: " + elementName);
-                } catch (Exception e2) {
-                    lastException = e2;
-                    
-                    // Method 3: Try JavaScript click
-                    try {
-                        ((JavascriptExecutor) webDriver).executeScript("arguments[0].click();", element);
-                        clicked = true;
-                        logSuccess("JS clicked element in modal: " + elementName);
-                    } catch (Exception e3) {
-                        lastException = e3;
-                        
-                        // Method 4: Try finding button parent and clicking
-                        try {
-                            WebElement button = element.findElement(By.xpath("./ancestor-or-self::button"));
-                            ((JavascriptExecutor) webDriver).executeScript("arguments[0].click();", button);
-                            clicked = true;
-                            logSuccess("Clicked button ancestor in modal: " + elementName);
-                        } catch (Exception e4) {
-                            lastException = e4;
-                        }
-                    }
-                }
+                logSuccess("Clicked element in modal: " + elementName + " (" + used + ")");
+            } catch (Exception e4) {
+                lastException = e4;
             }
             
             if (!clicked) {
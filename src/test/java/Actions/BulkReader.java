@@ -0,0 +1,226 @@
+package Actions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * BulkReader - Reads the state of many elements with one executeScript
+ *
+ * getText(), getAttribute() and isDisplayed() are one WebDriver round trip each, so checking
+ * 100 grid rows costs 300 calls. A BulkReader collects what is wanted and reads all matching
+ * elements in the browser at once:
+ *
+ *   BulkReader.Snapshot rows = bulkRead(gridRows).text().attributes("class").visibility().read();
+ *   for (BulkReader.ElementState row : rows.elements()) { row.getText(); row.isDisplayed(); ... }
+ *
+ * CSS and XPath locators (and id/name/className, which Selenium sends as CSS) are resolved in
+ * the same script; other locators cost one extra findElements. Reads only the current frame.
+ * Semantics differ slightly from the per-element calls: attributes() returns DOM attributes
+ * as written (use properties("value") for live values), text is innerText of displayed
+ * elements ("" for hidden ones, like getText()), styles take CSS names ("z-index").
+ */
+public final class BulkReader {
+
+    private static final String SCRIPT =
+        "var spec = arguments[0], els = arguments[1];" +
+        "if (!els) {" +
+        "  els = [];" +
+        "  if (spec.using === 'xpath') {" +
+        "    var r = document.evaluate(spec.value, document, null, 7, null);" +
+        "    for (var i = 0; i < r.snapshotLength; i++) els.push(r.snapshotItem(i));" +
+        "  } else {" +
+        "    els = Array.prototype.slice.call(document.querySelectorAll(spec.value));" +
+        "  }" +
+        "}" +
+        "var out = [];" +
+        "for (var i = 0; i < els.length; i++) {" +
+        "  var el = els[i], o = {el: el, tag: el.tagName.toLowerCase()}, cs = window.getComputedStyle(el);" +
+        "  var vis = el.checkVisibility ? el.checkVisibility({opacityProperty: true, visibilityProperty: true})" +
+        "    : (el.getClientRects().length > 0 && cs.visibility !== 'hidden' && cs.opacity !== '0');" +
+        "  if (spec.visible) o.displayed = vis;" +
+        "  if (spec.text) o.text = vis ? (el.innerText || '').trim() : '';" +
+        "  if (spec.enabled) o.enabled = !el.disabled;" +
+        "  o.attrs = {}; spec.attrs.forEach(function(a){ o.attrs[a] = el.getAttribute(a); });" +
+        "  o.props = {}; spec.props.forEach(function(p){ o.props[p] = el[p] == null ? null : String(el[p]); });" +
+        "  o.styles = {}; spec.styles.forEach(function(s){ o.styles[s] = cs.getPropertyValue(s); });" +
+        "  if (spec.rect) { var b = el.getBoundingClientRect(); o.rect = [b.left, b.top, b.width, b.height]; }" +
+        "  out.push(o);" +
+        "}" +
+        "return out;";
+
+    private final WebDriver driver;
+    private final By locator;
+    private final List<WebElement> elements;
+    private final Set<String> attributes = new LinkedHashSet<>();
+    private final Set<String> properties = new LinkedHashSet<>();
+    private final Set<String> styles = new LinkedHashSet<>();
+    private boolean text;
+    private boolean visibility;
+    private boolean enabled;
+    private boolean rect;
+
+    private BulkReader(WebDriver driver, By locator, List<WebElement> elements) {
+        this.driver = driver;
+        this.locator = locator;
+        this.elements = elements;
+    }
+
+    /** All elements matching the locator in the current frame */
+    public static BulkReader of(WebDriver driver, By locator) {
+        return new BulkReader(driver, locator, null);
+    }
+
+    /** Elements already found */
+    public static BulkReader of(WebDriver driver, List<WebElement> elements) {
+        return new BulkReader(driver, null, elements);
+    }
+
+    public BulkReader text() { this.text = true; return this; }
+    public BulkReader visibility() { this.visibility = true; return this; }
+    public BulkReader enabled() { this.enabled = true; return this; }
+    public BulkReader rect() { this.rect = true; return this; }
+
+    public BulkReader attributes(String... names) {
+        attributes.addAll(Arrays.asList(names));
+        return this;
+    }
+
+    public BulkReader properties(String... names) {
+        properties.addAll(Arrays.asList(names));
+        return this;
+    }
+
+    public BulkReader styles(String... cssNames) {
+        styles.addAll(Arrays.asList(cssNames));
+        return this;
+    }
+
+    /**
+     * Runs the single script
+     * @return state of every element, in document order (or list order)
+     */
+    @SuppressWarnings("unchecked")
+    public Snapshot read() {
+        Map<String, Object> spec = new LinkedHashMap<>();
+        List<WebElement> targets = elements;
+        if (targets == null) {
+            String[] lookup = scriptLookup(locator);
+            if (lookup == null) {
+                targets = driver.findElements(locator);
+            } else {
+                spec.put("using", lookup[0]);
+                spec.put("value", lookup[1]);
+            }
+        }
+        spec.put("text", text);
+        spec.put("visible", visibility);
+        spec.put("enabled", enabled);
+        spec.put("rect", rect);
+        spec.put("attrs", new ArrayList<>(attributes));
+        spec.put("props", new ArrayList<>(properties));
+        spec.put("styles", new ArrayList<>(styles));
+
+        long start = System.nanoTime();
+        Object result = ((JavascriptExecutor) driver).executeScript(SCRIPT, spec, targets);
+        List<ElementState> states = new ArrayList<>();
+        if (result instanceof List) {
+            for (Object item : (List<Object>) result) {
+                states.add(new ElementState(states.size(), (Map<String, Object>) item));
+            }
+        }
+        return new Snapshot(states, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * @return {using, value} for locators the script can resolve itself, else null
+     */
+    private static String[] scriptLookup(By locator) {
+        if (!(locator instanceof By.Remotable)) return null;
+        By.Remotable.Parameters params = ((By.Remotable) locator).getRemoteParameters();
+        String using = params.using();
+        if (!"css selector".equals(using) && !"xpath".equals(using)) return null;
+        return new String[] {using, String.valueOf(params.value())};
+    }
+
+    /**
+     * Result of one read
+     */
+    public static final class Snapshot {
+        private final List<ElementState> elements;
+        private final long millis;
+
+        Snapshot(List<ElementState> elements, long millis) {
+            this.elements = Collections.unmodifiableList(elements);
+            this.millis = millis;
+        }
+
+        public List<ElementState> elements() { return elements; }
+        public int size() { return elements.size(); }
+        public boolean isEmpty() { return elements.isEmpty(); }
+        /** First element, or null if nothing matched */
+        public ElementState first() { return elements.isEmpty() ? null : elements.get(0); }
+        /** Time of the script call, for diagnostics */
+        public long getMillis() { return millis; }
+    }
+
+    /**
+     * State of one element at the time of the read; unread values are null/false
+     */
+    @SuppressWarnings("unchecked")
+    public static final class ElementState {
+        private final int index;
+        private final Map<String, Object> raw;
+
+        ElementState(int index, Map<String, Object> raw) {
+            this.index = index;
+            this.raw = raw;
+        }
+
+        public int getIndex() { return index; }
+        public WebElement getElement() { return (WebElement) raw.get("el"); }
+        public String getTagName() { return (String) raw.get("tag"); }
+        public String getText() { return (String) raw.get("text"); }
+        public boolean isDisplayed() { return Boolean.TRUE.equals(raw.get("displayed")); }
+        public boolean isEnabled() { return Boolean.TRUE.equals(raw.get("enabled")); }
+
+        public String getAttribute(String name) {
+            return valueOf((Map<String, Object>) raw.get("attrs"), name);
+        }
+
+        public String getProperty(String name) {
+            return valueOf((Map<String, Object>) raw.get("props"), name);
+        }
+
+        public String getStyle(String cssName) {
+            return valueOf((Map<String, Object>) raw.get("styles"), cssName);
+        }
+
+        /** Bounding client rect in CSS pixels, or null if rect() was not requested */
+        public Rectangle getRect() {
+            List<Object> r = (List<Object>) raw.get("rect");
+            if (r == null) return null;
+            return new Rectangle(toInt(r.get(0)), toInt(r.get(1)), toInt(r.get(3)), toInt(r.get(2)));
+        }
+
+        private static String valueOf(Map<String, Object> values, String name) {
+            Object value = values == null ? null : values.get(name);
+            return value == null ? null : String.valueOf(value);
+        }
+
+        private static int toInt(Object number) {
+            return number instanceof Number ? (int) Math.round(((Number) number).doubleValue()) : 0;
+        }
+    }
+}
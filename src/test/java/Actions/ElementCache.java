@@ -0,0 +1,171 @@
+package Actions;
+
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import Base.FrameworkConfig;
+
+/**
+ * ElementCache - Resolved WebElements of the current page, per thread
+ *
+ * ActionEngine looks an element up once and reuses it for the next actions on the same locator
+ * instead of calling findElement before every click/type/getText. Entries are keyed by the
+ * locator plus its search root (the page, or a parent element) and live until the page changes:
+ *   - navigation (get, navigate to/back/forward/refresh) and window/frame switches clear the
+ *     thread's cache; DriverFactory installs the listener that reports them (track),
+ *   - a cached element that turns out stale (e.g. re-rendered by React, or left behind by a
+ *     click that navigated) is evicted and looked up again by the caller.
+ * Hit, miss and eviction counts are kept for the suite summary.
+ *
+ * Settings:
+ *   elementCache - true | false (default true)
+ */
+public final class ElementCache {
+
+    private static final boolean ENABLED =
+        Boolean.parseBoolean(FrameworkConfig.get().get("elementCache", "true").trim());
+
+    private static final ThreadLocal<Page> PAGE = new ThreadLocal<>();
+
+    // ✅ Metrics
+    private static final AtomicInteger hits = new AtomicInteger();
+    private static final AtomicInteger misses = new AtomicInteger();
+    private static final AtomicInteger staleEvictions = new AtomicInteger();
+    private static final Map<String, AtomicInteger> invalidations = new ConcurrentHashMap<>();
+
+    /** Invalidates the calling thread's cache on navigation and window/frame switches */
+    private static final WebDriverListener LISTENER = new WebDriverListener() {
+        @Override public void afterGet(WebDriver driver, String url) { invalidate("navigation"); }
+        @Override public void afterTo(WebDriver.Navigation navigation, String url) { invalidate("navigation"); }
+        @Override public void afterTo(WebDriver.Navigation navigation, URL url) { invalidate("navigation"); }
+        @Override public void afterBack(WebDriver.Navigation navigation) { invalidate("navigation"); }
+        @Override public void afterForward(WebDriver.Navigation navigation) { invalidate("navigation"); }
+        @Override public void afterRefresh(WebDriver.Navigation navigation) { invalidate("navigation"); }
+        @Override public void afterWindow(WebDriver.TargetLocator t, String nameOrHandle, WebDriver d) { invalidate("window"); }
+        @Override public void afterNewWindow(WebDriver.TargetLocator t, WindowType type, WebDriver d) { invalidate("window"); }
+        @Override public void afterClose(WebDriver driver) { invalidate("window"); }
+        @Override public void afterFrame(WebDriver.TargetLocator t, int index, WebDriver d) { invalidate("frame"); }
+        @Override public void afterFrame(WebDriver.TargetLocator t, String nameOrId, WebDriver d) { invalidate("frame"); }
+        @Override public void afterFrame(WebDriver.TargetLocator t, WebElement frame, WebDriver d) { invalidate("frame"); }
+        @Override public void afterParentFrame(WebDriver.TargetLocator t, WebDriver d) { invalidate("frame"); }
+        @Override public void afterDefaultContent(WebDriver.TargetLocator t, WebDriver d) { invalidate("frame"); }
+    };
+
+    private static final class Page {
+        final WebDriver driver;
+        final Map<Key, WebElement> elements = new HashMap<>();
+
+        Page(WebDriver driver) {
+            this.driver = driver;
+        }
+    }
+
+    private static final class Key {
+        final By locator;
+        final SearchContext root;
+
+        Key(By locator, SearchContext root) {
+            this.locator = locator;
+            this.root = root;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return locator.equals(other.locator) && Objects.equals(root, other.root);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * locator.hashCode() + Objects.hashCode(root);
+        }
+    }
+
+    private ElementCache() {
+    }
+
+    /**
+     * Adds the navigation/switch listener to a new session (called by DriverFactory)
+     */
+    public static WebDriver track(WebDriver driver) {
+        if (!ENABLED) return driver;
+        return new EventFiringDecorator<>(LISTENER).decorate(driver);
+    }
+
+    /**
+     * @param root parent element, or null for the whole page
+     * @return the cached element, or null if it has to be looked up
+     */
+    public static WebElement get(WebDriver driver, By locator, SearchContext root) {
+        if (!ENABLED) return null;
+        Page page = PAGE.get();
+        WebElement element = page == null || page.driver != driver ? null : page.elements.get(new Key(locator, root));
+        if (element == null) misses.incrementAndGet();
+        return element;
+    }
+
+    /**
+     * Counts a cached element that passed the caller's check
+     */
+    public static void hit() {
+        hits.incrementAndGet();
+    }
+
+    public static void put(WebDriver driver, By locator, SearchContext root, WebElement element) {
+        if (!ENABLED || element == null) return;
+        Page page = PAGE.get();
+        if (page == null || page.driver != driver) {
+            page = new Page(driver);
+            PAGE.set(page);
+        }
+        page.elements.put(new Key(locator, root), element);
+    }
+
+    /**
+     * Drops one entry whose element went stale or no longer matches
+     */
+    public static void evict(WebDriver driver, By locator, SearchContext root) {
+        Page page = PAGE.get();
+        if (page != null && page.driver == driver && page.elements.remove(new Key(locator, root)) != null) {
+            staleEvictions.incrementAndGet();
+            misses.incrementAndGet();
+        }
+    }
+
+    /**
+     * Clears the calling thread's cache
+     * @param reason counted in the metrics (navigation, window, frame, ...)
+     */
+    public static void invalidate(String reason) {
+        Page page = PAGE.get();
+        if (page == null || page.elements.isEmpty()) return;
+        page.elements.clear();
+        invalidations.computeIfAbsent(reason, k -> new AtomicInteger()).incrementAndGet();
+    }
+
+    /**
+     * Forgets the thread's page entirely (end of test)
+     */
+    public static void clear() {
+        PAGE.remove();
+    }
+
+    public static String getMetricsSummary() {
+        int h = hits.get(), lookups = h + misses.get();
+        return String.format("Element cache: lookups=%d, hits=%d (%.0f%%), stale evictions=%d, invalidations=%s",
+            lookups, h, lookups == 0 ? 0 : 100.0 * h / lookups, staleEvictions.get(), invalidations);
+    }
+}
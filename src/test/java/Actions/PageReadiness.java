@@ -0,0 +1,116 @@
+package Actions;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+/**
+ * PageReadiness - Application readiness contract used after navigation
+ *
+ * The default check treats the Initiative app as ready when:
+ *   1. the DOM has been parsed (document.readyState is not "loading"),
+ *   2. the React root (#root) has rendered children,
+ *   3. no MUI progress indicator (spinner, linear progress, skeleton) is visible,
+ *   4. no fetch/XHR started within the last few seconds is still pending.
+ * Pages without a #root (e.g. the Microsoft sign-in page) only need 1, 3 and 4.
+ *
+ * Pending requests are counted by a small hook that is installed before any page script on
+ * Chromium (via CDP) and lazily by the check itself elsewhere.
+ */
+public final class PageReadiness {
+
+    // Counts in-flight fetch/XHR; requests older than 10 s (long polling) are ignored
+    static final String NETWORK_HOOK =
+        "(function(){" +
+        "  if (window.__wdNet) return;" +
+        "  var n = window.__wdNet = {seq: 0, open: {}};" +
+        "  var begin = function(){ var id = ++n.seq; n.open[id] = Date.now(); return id; };" +
+        "  var end = function(id){ delete n.open[id]; };" +
+        "  if (window.fetch) {" +
+        "    var f = window.fetch;" +
+        "    window.fetch = function(){ var id = begin();" +
+        "      try { return f.apply(this, arguments).then(function(r){ end(id); return r; }," +
+        "                                              function(e){ end(id); throw e; }); }" +
+        "      catch (e) { end(id); throw e; } };" +
+        "  }" +
+        "  if (window.XMLHttpRequest) {" +
+        "    var send = XMLHttpRequest.prototype.send;" +
+        "    XMLHttpRequest.prototype.send = function(){ var id = begin();" +
+        "      this.addEventListener('loadend', function(){ end(id); });" +
+        "      return send.apply(this, arguments); };" +
+        "  }" +
+        "})();";
+
+    private static final String APP_READY_SCRIPT =
+        NETWORK_HOOK +
+        "if (document.readyState === 'loading') return false;" +
+        "var root = document.getElementById('root');" +
+        "if (root && root.childElementCount === 0) return false;" +
+        "var busy = document.querySelectorAll('.MuiCircularProgress-root, .MuiLinearProgress-root, .MuiSkeleton-root');" +
+        "for (var i = 0; i < busy.length; i++) { if (busy[i].getClientRects().length > 0) return false; }" +
+        "var now = Date.now(), open = window.__wdNet.open;" +
+        "for (var k in open) { if (now - open[k] < 10000) return false; }" +
+        "return true;";
+
+    /** Default contract for the Initiative React/MUI application */
+    public static final ReadinessCheck APP_READY = driver ->
+        Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(APP_READY_SCRIPT));
+
+    private static volatile ReadinessCheck check = APP_READY;
+
+    private PageReadiness() {
+    }
+
+    /**
+     * Replaces the readiness check used by all page objects
+     */
+    public static void register(ReadinessCheck readinessCheck) {
+        check = readinessCheck == null ? APP_READY : readinessCheck;
+    }
+
+    public static ReadinessCheck getCheck() {
+        return check;
+    }
+
+    /**
+     * Installs the request counter before any page script runs (Chromium only, no-op elsewhere)
+     */
+    public static void install(WebDriver driver) {
+        if (!(driver instanceof HasCdp)) return;
+        try {
+            Map<String, Object> args = new HashMap<>();
+            args.put("source", NETWORK_HOOK);
+            ((HasCdp) driver).executeCdpCommand("Page.addScriptToEvaluateOnNewDocument", args);
+        } catch (Exception ignored) {
+            // Falls back to the lazy install done by the check itself
+        }
+    }
+
+    /**
+     * Waits until the registered check passes on two consecutive polls (polled at least every 100 ms)
+     * @return false if the page did not become ready within the timeout
+     */
+    public static boolean waitUntilReady(WebDriver driver, Duration timeout) {
+        final int[] streak = {0};
+        try {
+            WaitEngine.on(driver, timeout, Duration.ofMillis(100)).until(d -> {
+                boolean ready;
+                try {
+                    ready = check.isReady(d);
+                } catch (Exception e) {
+                    // Navigation in progress, script context gone
+                    ready = false;
+                }
+                streak[0] = ready ? streak[0] + 1 : 0;
+                return streak[0] >= 2;
+            });
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package Actions;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Probe - Budgeted presence checks for elements that may legitimately be absent
+ *
+ * A wait is for something that must appear; a probe is for something that might (an optional
+ * popup, one of several login layouts, a locator in a fallback chain). Every probe states its
+ * budget, returns as soon as the answer is known and never throws:
+ *   now(driver, locator)                  - one findElements, no waiting
+ *   within(driver, locator, budget)       - present within the budget
+ *   visibleWithin(driver, locator, budget)- present and displayed within the budget
+ *   firstOf(driver, budget, locators...)  - the first locator (in order) found within the budget
+ * Polling goes through WaitEngine (capped at 100 ms), so the test deadline applies. Each kind
+ * of probe is timed with its hit rate for the suite summary.
+ */
+public final class Probe {
+
+    private static final Duration POLL_CAP = Duration.ofMillis(100);
+
+    // ✅ Metrics
+    private static final Map<String, Stats> STATS = new ConcurrentHashMap<>();
+
+    private static final class Stats {
+        final AtomicInteger calls = new AtomicInteger();
+        final AtomicInteger hits = new AtomicInteger();
+        final AtomicLong nanos = new AtomicLong();
+        final AtomicLong missNanos = new AtomicLong();
+    }
+
+    private Probe() {
+    }
+
+    /**
+     * @return true if the locator matches an element right now
+     */
+    public static boolean now(WebDriver driver, By locator) {
+        long start = System.nanoTime();
+        boolean found;
+        try {
+            found = !driver.findElements(locator).isEmpty();
+        } catch (Exception e) {
+            found = false;
+        }
+        return record("now", start, found);
+    }
+
+    /**
+     * @return true if the locator matches an element within the budget
+     */
+    public static boolean within(WebDriver driver, By locator, Duration budget) {
+        if (budget.isZero()) return now(driver, locator);
+        long start = System.nanoTime();
+        return record("within", start, poll(driver, budget, d -> d.findElements(locator).isEmpty() ? null : Boolean.TRUE) != null);
+    }
+
+    /**
+     * @return true if the locator matches a displayed element within the budget
+     */
+    public static boolean visibleWithin(WebDriver driver, By locator, Duration budget) {
+        long start = System.nanoTime();
+        Boolean found = budget.isZero() ? displayed(driver, locator) : poll(driver, budget, d -> displayed(d, locator));
+        return record("visibleWithin", start, Boolean.TRUE.equals(found));
+    }
+
+    /**
+     * Checks all locators on every poll, in order
+     * @return the first locator that matches within the budget, or null if none does
+     */
+    public static By firstOf(WebDriver driver, Duration budget, By... locators) {
+        long start = System.nanoTime();
+        By found = poll(driver, budget, d -> {
+            for (By locator : locators) {
+                if (!d.findElements(locator).isEmpty()) return locator;
+            }
+            return null;
+        });
+        record("firstOf", start, found != null);
+        return found;
+    }
+
+    private static Boolean displayed(WebDriver driver, By locator) {
+        try {
+            List<WebElement> elements = driver.findElements(locator);
+            for (WebElement element : elements) {
+                if (element.isDisplayed()) return Boolean.TRUE;
+            }
+        } catch (Exception ignored) {
+            // stale or detached while checking; the next poll decides
+        }
+        return null;
+    }
+
+    private static <V> V poll(WebDriver driver, Duration budget, Function<WebDriver, V> check) {
+        if (budget.isZero()) {
+            try {
+                return check.apply(driver);
+            } catch (Exception e) {
+                return null;
+            }
+        }
+        try {
+            return WaitEngine.on(driver, budget, POLL_CAP).until(check::apply);
+        } catch (TimeoutException e) {
+            return null;
+        } catch (Exception e) {
+            // session or window problems are the caller's business, not a probe's
+            return null;
+        }
+    }
+
+    private static boolean record(String kind, long start, boolean hit) {
+        long elapsed = System.nanoTime() - start;
+        Stats stats = STATS.computeIfAbsent(kind, k -> new Stats());
+        stats.calls.incrementAndGet();
+        stats.nanos.addAndGet(elapsed);
+        if (hit) {
+            stats.hits.incrementAndGet();
+        } else {
+            stats.missNanos.addAndGet(elapsed);
+        }
+        return hit;
+    }
+
+    public static String getMetricsSummary() {
+        if (STATS.isEmpty()) return "Probes: none";
+        StringBuilder sb = new StringBuilder("Probes:");
+        for (Map.Entry<String, Stats> e : STATS.entrySet()) {
+            Stats s = e.getValue();
+            int misses = s.calls.get() - s.hits.get();
+            sb.append(String.format(" %s n=%d hit=%d avg=%.0f ms (misses cost %.1f s);",
+                e.getKey(), s.calls.get(), s.hits.get(), s.nanos.get() / 1_000_000.0 / s.calls.get(),
+                misses == 0 ? 0 : s.missNanos.get() / 1_000_000_000.0));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,20 @@
+package Actions;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * ReadinessCheck - Contract for "the page is ready to be used"
+ *
+ * Page objects wait on the registered check after every navigation instead of waiting for
+ * document.readyState and sleeping. Register a custom implementation with
+ * PageReadiness.register(...) when a screen needs a different definition of ready.
+ */
+@FunctionalInterface
+public interface ReadinessCheck {
+
+    /**
+     * Called repeatedly while waiting; must be cheap and must not throw for "not ready yet"
+     * @return true when the current page can be interacted with
+     */
+    boolean isReady(WebDriver driver);
+}
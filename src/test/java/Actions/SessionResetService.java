@@ -0,0 +1,162 @@
+package Actions;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * SessionResetService - Returns a live, logged-in session to a known state between tests
+ *
+ * Much cheaper than quitting and relaunching the browser. A reset
+ *   1. dismisses open alerts,
+ *   2. closes windows left open (e.g. by switchToModalPopupWindow) and focuses the main window
+ *      recorded when the session was created,
+ *   3. leaves any iframe,
+ *   4. clears sessionStorage except keys that hold the login (keepStoragePattern),
+ *   5. loads the landing page (the Initiative list) and waits for PageReadiness.
+ * Cookies and localStorage are left alone so the login survives.
+ */
+public class SessionResetService {
+
+    private static final Logger log = LogManager.getLogger(SessionResetService.class);
+    public static final String DEFAULT_KEEP_STORAGE = "(?i)msal|token|auth|account|login|user";
+    // Session -> handle of the window it was created on (see rememberMainWindow)
+    private static final Map<WebDriver, String> MAIN_WINDOWS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final String landingUrl;
+    private final Duration readyTimeout;
+    private final String keepStoragePattern;
+
+    // ✅ Metrics
+    private final AtomicInteger resets = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+    private final AtomicInteger slow = new AtomicInteger();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public SessionResetService(String landingUrl, Duration readyTimeout, String keepStoragePattern) {
+        this.landingUrl = landingUrl;
+        this.readyTimeout = readyTimeout;
+        this.keepStoragePattern = keepStoragePattern == null || keepStoragePattern.trim().isEmpty()
+            ? DEFAULT_KEEP_STORAGE : keepStoragePattern.trim();
+    }
+
+    /**
+     * Resets the session and lands on the landing page
+     * @return false if the session did not survive the reset and should be discarded
+     */
+    public boolean reset(WebDriver driver) {
+        long start = System.nanoTime();
+        try {
+            dismissAlerts(driver);
+            closeExtraWindows(driver);
+            driver.switchTo().defaultContent();
+            clearTransientStorage(driver);
+            driver.get(landingUrl);
+            PageReadiness.waitUntilReady(driver, readyTimeout);
+            return true;
+        } catch (Exception e) {
+            failures.incrementAndGet();
+            log.warn("⚠️ Session reset failed: " + e.getMessage());
+            return false;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            resets.incrementAndGet();
+            totalNanos.addAndGet(elapsed);
+            maxNanos.accumulateAndGet(elapsed, Math::max);
+            if (elapsed > 1_000_000_000L) {
+                slow.incrementAndGet();
+                log.info("Slow session reset: " + (elapsed / 1_000_000) + " ms");
+            }
+        }
+    }
+
+    /**
+     * Dismisses every open alert/confirm (up to a few stacked ones)
+     */
+    public static void dismissAlerts(WebDriver driver) {
+        for (int i = 0; i < 3; i++) {
+            try {
+                driver.switchTo().alert().dismiss();
+            } catch (NoAlertPresentException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Records the window the session was created on; closeExtraWindows keeps that one.
+     * getWindowHandles() has no defined order, so "the first handle" can be a popup.
+     */
+    public static void rememberMainWindow(WebDriver driver) {
+        try {
+            MAIN_WINDOWS.put(driver, driver.getWindowHandle());
+        } catch (Exception e) {
+            log.debug("Main window of the session not recorded: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Closes every window except the session's main window and switches to it
+     */
+    public static void closeExtraWindows(WebDriver driver) {
+        Set<String> handles = driver.getWindowHandles();
+        String main = MAIN_WINDOWS.get(driver);
+        if (main == null || !handles.contains(main)) {
+            // Not recorded, or the test closed it: keep the window the driver is on if it is still open
+            String focused = null;
+            try {
+                focused = driver.getWindowHandle();
+            } catch (Exception ignored) {}
+            main = focused != null && handles.contains(focused) ? focused : handles.iterator().next();
+            MAIN_WINDOWS.put(driver, main);
+        }
+        for (String handle : handles) {
+            if (!handle.equals(main)) {
+                driver.switchTo().window(handle);
+                driver.close();
+            }
+        }
+        driver.switchTo().window(main);
+    }
+
+    private void clearTransientStorage(WebDriver driver) {
+        try {
+            ((JavascriptExecutor) driver).executeScript(
+                // Java's inline (?i) becomes the JS 'i' flag
+                "try{var p=arguments[0],f='';if(p.indexOf('(?i)')===0){p=p.substring(4);f='i';}"
+                + "var keep=new RegExp(p,f);"
+                + "for(var i=sessionStorage.length-1;i>=0;i--){var k=sessionStorage.key(i);"
+                + "if(!keep.test(k)){sessionStorage.removeItem(k);}}}catch(e){}",
+                keepStoragePattern);
+        } catch (Exception ignored) {
+            // about:blank or a cross-origin page has no accessible storage
+        }
+    }
+
+    // =====================
+    // Metrics
+    // =====================
+    public int getResetCount() { return resets.get(); }
+    public int getFailureCount() { return failures.get(); }
+
+    public double getAverageMillis() {
+        int count = resets.get();
+        return count == 0 ? 0 : totalNanos.get() / 1_000_000.0 / count;
+    }
+
+    public String getMetricsSummary() {
+        return String.format("Session reset: count=%d, failed=%d, over 1s=%d, avg=%.0f ms, max=%.0f ms",
+            resets.get(), failures.get(), slow.get(), getAverageMillis(), maxNanos.get() / 1_000_000.0);
+    }
+}
@@ -0,0 +1,259 @@
+package Actions;
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+
+import Base.FrameworkConfig;
+
+/**
+ * StrategyRanker - Learns which fallback strategy works for which element
+ *
+ * Fallback chains (native click, Actions click, JS click, ...) used to run in a fixed order, so
+ * an element that only reacts to a JS click paid for the failing attempts on every call. run()
+ * records, per chain and locator, which strategy succeeded and how long the failed attempts
+ * took, and tries the strategies with the best win rate first; time lost in failed attempts only
+ * breaks ties. Until a locator has strategyMinSamples recorded runs the declared order is kept.
+ * The first declared strategy is the native one (a real click, sendKeys). A synthetic strategy
+ * that "did not throw" has not necessarily worked (a JS click on a covered element, a value set
+ * past React), so the native strategy keeps first place unless it fails in at least
+ * strategyDemoteFailureRate of its attempts.
+ * The statistics are merged into target/strategy-stats.properties at suite end (BaseTest) and
+ * loaded by the next run; old counts are halved once they grow large, so a changed page is
+ * picked up again.
+ *
+ * Settings:
+ *   strategyLearning   - true | false (default true; false = always the declared order)
+ *   strategyMinSamples - runs of a chain/locator before it is reordered (default 3)
+ *   strategyDemoteFailureRate - failure rate at which the native strategy loses first place (default 0.8)
+ */
+public final class StrategyRanker {
+
+    private static final Logger log = LogManager.getLogger(StrategyRanker.class);
+    static final Path STATS_FILE = Paths.get(System.getProperty("user.dir"), "target", "strategy-stats.properties");
+
+    private static final boolean ENABLED =
+        Boolean.parseBoolean(FrameworkConfig.get().get("strategyLearning", "true").trim());
+    private static final int MIN_SAMPLES =
+        Integer.parseInt(FrameworkConfig.get().get("strategyMinSamples", "3").trim());
+    private static final double DEMOTE_FAILURE_RATE =
+        Double.parseDouble(FrameworkConfig.get().get("strategyDemoteFailureRate", "0.8").trim());
+    // Attempts per strategy above which the history is halved when saved
+    private static final int DECAY_ABOVE = 100;
+
+    // Key "chain|locator|strategy"; history from earlier runs and what this run added
+    private static final Map<String, Stats> HISTORY = load();
+    private static final Map<String, Stats> RUN = new ConcurrentHashMap<>();
+
+    // ✅ Metrics
+    private static final AtomicInteger chains = new AtomicInteger();
+    private static final AtomicInteger reordered = new AtomicInteger();
+    private static final AtomicInteger firstTryWins = new AtomicInteger();
+    private static final AtomicLong failedNanos = new AtomicLong();
+
+    /**
+     * One strategy of a chain; any exception counts as a failed attempt
+     */
+    @FunctionalInterface
+    public interface Attempt {
+        void run() throws Exception;
+    }
+
+    private static final class Stats {
+        final AtomicInteger wins = new AtomicInteger();
+        final AtomicInteger fails = new AtomicInteger();
+        final AtomicLong failedNanos = new AtomicLong();
+    }
+
+    private StrategyRanker() {
+    }
+
+    /**
+     * Tries the strategies, best known first, until one does not throw
+     * @param chain name of the fallback chain, e.g. "ActionEngine.clickElementInModal"
+     * @param strategies name -> attempt, in the default order (use a LinkedHashMap)
+     * @return name of the strategy that succeeded
+     * @throws Exception the last failure if every strategy failed
+     */
+    public static String run(String chain, By locator, Map<String, Attempt> strategies) throws Exception {
+        String prefix = chain + "|" + locator + "|";
+        List<String> order = order(prefix, strategies.keySet());
+        chains.incrementAndGet();
+        Exception last = null;
+        for (int i = 0; i < order.size(); i++) {
+            String name = order.get(i);
+            long start = System.nanoTime();
+            try {
+                strategies.get(name).run();
+                record(prefix + name, true, 0);
+                if (i == 0) firstTryWins.incrementAndGet();
+                return name;
+            } catch (Exception e) {
+                long elapsed = System.nanoTime() - start;
+                record(prefix + name, false, elapsed);
+                failedNanos.addAndGet(elapsed);
+                last = e;
+            }
+        }
+        throw last != null ? last : new IllegalArgumentException("No strategies given for " + chain);
+    }
+
+    private static List<String> order(String prefix, Iterable<String> declared) {
+        List<String> order = new ArrayList<>();
+        declared.forEach(order::add);
+        if (!ENABLED) return order;
+
+        int runs = 0;
+        for (String name : order) {
+            runs += wins(prefix + name);
+        }
+        if (runs < MIN_SAMPLES) return order;
+
+        List<String> ranked = new ArrayList<>(order);
+        // Stable sort: strategies without evidence keep their declared place relative to each other
+        ranked.sort(Comparator.comparingDouble((String name) -> -winRate(prefix + name))
+            .thenComparingDouble(name -> avgFailedMs(prefix + name)));
+        String nativeStrategy = order.get(0);
+        if (!nativeStrategy.equals(ranked.get(0)) && failureRate(prefix + nativeStrategy) < DEMOTE_FAILURE_RATE) {
+            ranked.remove(nativeStrategy);
+            ranked.add(0, nativeStrategy);
+        }
+        if (!ranked.equals(order)) reordered.incrementAndGet();
+        return ranked;
+    }
+
+    /**
+     * Wins over attempts, smoothed so a single lucky attempt does not beat a long record
+     */
+    private static double winRate(String key) {
+        int wins = wins(key);
+        return (wins + 1.0) / (wins + fails(key) + 2.0);
+    }
+
+    private static double failureRate(String key) {
+        int fails = fails(key);
+        int attempts = wins(key) + fails;
+        return attempts == 0 ? 0 : (double) fails / attempts;
+    }
+
+    private static double avgFailedMs(String key) {
+        int fails = fails(key);
+        return fails == 0 ? 0 : failedNanos(key) / 1_000_000.0 / fails;
+    }
+
+    private static int wins(String key) {
+        return value(HISTORY.get(key), 0) + value(RUN.get(key), 0);
+    }
+
+    private static int fails(String key) {
+        return value(HISTORY.get(key), 1) + value(RUN.get(key), 1);
+    }
+
+    private static long failedNanos(String key) {
+        Stats h = HISTORY.get(key), r = RUN.get(key);
+        return (h == null ? 0 : h.failedNanos.get()) + (r == null ? 0 : r.failedNanos.get());
+    }
+
+    private static int value(Stats stats, int field) {
+        if (stats == null) return 0;
+        return field == 0 ? stats.wins.get() : stats.fails.get();
+    }
+
+    private static void record(String key, boolean won, long failedNanos) {
+        Stats stats = RUN.computeIfAbsent(key, k -> new Stats());
+        (won ? stats.wins : stats.fails).incrementAndGet();
+        stats.failedNanos.addAndGet(failedNanos);
+    }
+
+    // =====================
+    // Persistence
+    // =====================
+
+    private static Map<String, Stats> load() {
+        Map<String, Stats> map = new ConcurrentHashMap<>();
+        Properties p = read();
+        for (String key : p.stringPropertyNames()) {
+            Stats stats = parse(p.getProperty(key));
+            if (stats != null) map.put(key, stats);
+        }
+        return map;
+    }
+
+    private static Properties read() {
+        Properties p = new Properties();
+        if (Files.exists(STATS_FILE)) {
+            try (InputStream in = new FileInputStream(STATS_FILE.toFile())) {
+                p.load(in);
+            } catch (Exception ignored) {}
+        }
+        return p;
+    }
+
+    /**
+     * "wins,fails,failedMs"
+     */
+    private static Stats parse(String value) {
+        try {
+            String[] parts = value.trim().split(",");
+            Stats stats = new Stats();
+            stats.wins.set(Integer.parseInt(parts[0].trim()));
+            stats.fails.set(Integer.parseInt(parts[1].trim()));
+            stats.failedNanos.set(Long.parseLong(parts[2].trim()) * 1_000_000);
+            return stats;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Adds this run's counts to the file as it is now (other JVMs/shards may have written
+     * since it was loaded); called once at suite end
+     */
+    public static synchronized void save() {
+        if (RUN.isEmpty()) return;
+        Properties p = read();
+        for (Map.Entry<String, Stats> e : RUN.entrySet()) {
+            Stats merged = parse(p.getProperty(e.getKey(), "0,0,0"));
+            if (merged == null) merged = new Stats();
+            int wins = merged.wins.get() + e.getValue().wins.get();
+            int fails = merged.fails.get() + e.getValue().fails.get();
+            long ms = merged.failedNanos.get() / 1_000_000 + e.getValue().failedNanos.get() / 1_000_000;
+            if (wins + fails > DECAY_ABOVE) {
+                wins /= 2;
+                fails /= 2;
+                ms /= 2;
+            }
+            p.setProperty(e.getKey(), wins + "," + fails + "," + ms);
+        }
+        try {
+            Files.createDirectories(STATS_FILE.getParent());
+            try (OutputStream out = new FileOutputStream(STATS_FILE.toFile())) {
+                p.store(out, "Fallback strategy statistics (wins,fails,failedMs) used by StrategyRanker");
+            }
+            RUN.clear();
+        } catch (Exception e) {
+            log.warn("⚠️ Could not save strategy statistics: " + e.getMessage());
+        }
+    }
+
+    public static String getMetricsSummary() {
+        return String.format("Fallback strategies: chains=%d, won on first try=%d, reordered=%d, %.1f s in failed attempts",
+            chains.get(), firstTryWins.get(), reordered.get(), failedNanos.get() / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,272 @@
+package Actions;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import Base.FrameworkConfig;
+
+/**
+ * WaitEngine - One place for every explicit wait of the framework
+ *
+ * on(driver, timeout) hands out the calling thread's wait for that driver and timeout; it is
+ * created once and reused instead of a new WebDriverWait per call. Waits keep WebDriverWait
+ * semantics (null/false means "not yet", NotFoundException is ignored) but poll adaptively:
+ * the first checks come quickly and the interval backs off towards waitPollMaxMs, so elements
+ * that are already there cost one round trip and slow ones do not flood the driver.
+ *
+ * Each test gets a wait budget (startTest/endTest from BaseTest). A wait never runs past the
+ * test's deadline, and a wait started inside another wait's condition never outlives the
+ * outer one, so nested 20-40 s waits cannot add up to minutes.
+ * Every wait records its call site, time spent and outcome; the totals are logged per test
+ * and for the suite.
+ *
+ * Settings:
+ *   waitPollStartMs       - first poll interval (default 50)
+ *   waitPollMaxMs         - poll interval cap (default 500)
+ *   testWaitBudgetSeconds - deadline for all waits of one test, 0 = none (default 600)
+ */
+public final class WaitEngine {
+
+    private static final Logger log = LogManager.getLogger(WaitEngine.class);
+
+    private static final long POLL_START_NANOS = Duration.ofMillis(
+        Long.parseLong(FrameworkConfig.get().get("waitPollStartMs", "50").trim())).toNanos();
+    private static final long POLL_MAX_NANOS = Duration.ofMillis(
+        Long.parseLong(FrameworkConfig.get().get("waitPollMaxMs", "500").trim())).toNanos();
+    private static final long TEST_BUDGET_NANOS = Duration.ofSeconds(
+        Long.parseLong(FrameworkConfig.get().get("testWaitBudgetSeconds", "600").trim())).toNanos();
+
+    // Reusable waits of this thread, keyed by timeout and poll cap; dropped when the thread's driver changes
+    private static final ThreadLocal<Map<String, EngineWait>> WAITS = ThreadLocal.withInitial(HashMap::new);
+    // Innermost deadline (System.nanoTime) that a new wait on this thread must respect
+    private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
+    private static final ThreadLocal<TestTotals> TEST = new ThreadLocal<>();
+
+    // ✅ Metrics
+    private static final Map<String, SiteStats> SITES = new ConcurrentHashMap<>();
+    private static final AtomicInteger budgetCapped = new AtomicInteger();
+
+    private enum Outcome { MET, TIMEOUT, ERROR }
+
+    private static final class SiteStats {
+        final AtomicInteger calls = new AtomicInteger();
+        final AtomicInteger timeouts = new AtomicInteger();
+        final AtomicInteger errors = new AtomicInteger();
+        final AtomicLong nanos = new AtomicLong();
+        final AtomicLong maxNanos = new AtomicLong();
+    }
+
+    private static final class TestTotals {
+        int waits;
+        int timeouts;
+        long nanos;
+    }
+
+    private WaitEngine() {
+    }
+
+    /**
+     * @return this thread's reusable wait for the driver and timeout
+     */
+    public static WebDriverWait on(WebDriver driver, Duration timeout) {
+        return on(driver, timeout, Duration.ofNanos(POLL_MAX_NANOS));
+    }
+
+    /**
+     * @param maxPoll cap of the adaptive poll interval, for checks that must notice changes quickly
+     */
+    public static WebDriverWait on(WebDriver driver, Duration timeout, Duration maxPoll) {
+        Map<String, EngineWait> waits = WAITS.get();
+        String key = timeout.toMillis() + "/" + maxPoll.toMillis();
+        EngineWait wait = waits.get(key);
+        if (wait == null || wait.driver != driver) {
+            if (wait != null) waits.clear();
+            wait = new EngineWait(driver, timeout, maxPoll);
+            waits.put(key, wait);
+        }
+        return wait;
+    }
+
+    /**
+     * Shorthand for on(driver, timeout).until(condition)
+     */
+    public static <V> V until(WebDriver driver, Duration timeout, Function<? super WebDriver, V> condition) {
+        return on(driver, timeout).until(condition);
+    }
+
+    /**
+     * Starts the wait budget of the test running on this thread
+     */
+    public static void startTest() {
+        TEST.set(new TestTotals());
+        if (TEST_BUDGET_NANOS > 0) {
+            DEADLINE.set(System.nanoTime() + TEST_BUDGET_NANOS);
+        } else {
+            DEADLINE.remove();
+        }
+    }
+
+    /**
+     * Ends the test's budget
+     * @return one-line summary of the test's waits, or null if startTest was not called
+     */
+    public static String endTest() {
+        TestTotals totals = TEST.get();
+        TEST.remove();
+        DEADLINE.remove();
+        WAITS.remove();
+        if (totals == null) return null;
+        return String.format("Waits: %d, %.1f s waiting, %d timed out",
+            totals.waits, totals.nanos / 1_000_000_000.0, totals.timeouts);
+    }
+
+    /**
+     * WebDriverWait whose until() polls adaptively and respects the enclosing deadlines
+     */
+    static final class EngineWait extends WebDriverWait {
+        private final WebDriver driver;
+        private final Duration timeout;
+        private final long maxPollNanos;
+
+        EngineWait(WebDriver driver, Duration timeout, Duration maxPoll) {
+            super(driver, timeout);
+            this.driver = driver;
+            this.timeout = timeout;
+            this.maxPollNanos = Math.max(POLL_START_NANOS, maxPoll.toNanos());
+        }
+
+        @Override
+        public <V> V until(Function<? super WebDriver, V> isTrue) {
+            String site = callSite();
+            long start = System.nanoTime();
+            long deadline = start + timeout.toNanos();
+            Long outer = DEADLINE.get();
+            boolean capped = outer != null && outer - deadline < 0;
+            if (capped) {
+                deadline = outer;
+                budgetCapped.incrementAndGet();
+            }
+            DEADLINE.set(deadline);
+
+            long poll = POLL_START_NANOS;
+            RuntimeException lastIgnored = null;
+            try {
+                while (true) {
+                    try {
+                        V value = isTrue.apply(driver);
+                        if (value != null && (Boolean.class != value.getClass() || Boolean.TRUE.equals(value))) {
+                            record(site, start, Outcome.MET);
+                            return value;
+                        }
+                        lastIgnored = null;
+                    } catch (NotFoundException e) {
+                        lastIgnored = e;
+                    } catch (RuntimeException e) {
+                        record(site, start, Outcome.ERROR);
+                        throw e;
+                    }
+
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        record(site, start, Outcome.TIMEOUT);
+                        throw new TimeoutException(String.format(
+                            "Expected condition failed: waiting for %s (tried for %d ms with adaptive polling%s)",
+                            isTrue, (System.nanoTime() - start) / 1_000_000,
+                            capped ? ", cut short by the enclosing wait/test deadline" : ""), lastIgnored);
+                    }
+                    try {
+                        Thread.sleep(Math.max(1, Math.min(poll, remaining) / 1_000_000));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        record(site, start, Outcome.ERROR);
+                        throw new WebDriverException(e);
+                    }
+                    poll = Math.min(maxPollNanos, poll * 2);
+                }
+            } finally {
+                if (outer == null) {
+                    DEADLINE.remove();
+                } else {
+                    DEADLINE.set(outer);
+                }
+            }
+        }
+    }
+
+    /**
+     * First frame outside the wait classes, e.g. "InitiativePage.clickSubmitButton"
+     */
+    private static String callSite() {
+        return StackWalker.getInstance().walk(frames -> frames
+            .filter(f -> !f.getClassName().startsWith(WaitEngine.class.getName())
+                && !f.getClassName().equals(FluentWait.class.getName())
+                && !f.getClassName().equals(WebDriverWait.class.getName()))
+            .findFirst()
+            .map(f -> f.getClassName().substring(f.getClassName().lastIndexOf('.') + 1) + "." + f.getMethodName())
+            .orElse("unknown"));
+    }
+
+    private static void record(String site, long start, Outcome outcome) {
+        long elapsed = System.nanoTime() - start;
+        SiteStats stats = SITES.computeIfAbsent(site, k -> new SiteStats());
+        stats.calls.incrementAndGet();
+        stats.nanos.addAndGet(elapsed);
+        stats.maxNanos.accumulateAndGet(elapsed, Math::max);
+        if (outcome == Outcome.TIMEOUT) stats.timeouts.incrementAndGet();
+        if (outcome == Outcome.ERROR) stats.errors.incrementAndGet();
+
+        TestTotals totals = TEST.get();
+        if (totals != null) {
+            totals.waits++;
+            totals.nanos += elapsed;
+            if (outcome == Outcome.TIMEOUT) totals.timeouts++;
+        }
+        if (outcome == Outcome.TIMEOUT && log.isDebugEnabled()) {
+            log.debug("Wait timed out at " + site + " after " + elapsed / 1_000_000 + " ms");
+        }
+    }
+
+    // =====================
+    // Metrics
+    // =====================
+
+    public static String getMetricsSummary() {
+        if (SITES.isEmpty()) return "Waits: none";
+        int calls = 0, timeouts = 0;
+        long nanos = 0;
+        for (SiteStats s : SITES.values()) {
+            calls += s.calls.get();
+            timeouts += s.timeouts.get();
+            nanos += s.nanos.get();
+        }
+        StringBuilder sb = new StringBuilder(String.format(
+            "Waits: %d, %.1f s waiting, %d timed out, %d cut short by a deadline. Top call sites by wait time:",
+            calls, nanos / 1_000_000_000.0, timeouts, budgetCapped.get()));
+        List<Map.Entry<String, SiteStats>> sites = new ArrayList<>(SITES.entrySet());
+        sites.sort((a, b) -> Long.compare(b.getValue().nanos.get(), a.getValue().nanos.get()));
+        for (Map.Entry<String, SiteStats> e : sites.subList(0, Math.min(10, sites.size()))) {
+            SiteStats s = e.getValue();
+            sb.append(String.format("%n  %-50s n=%-5d total=%7.1f s  avg=%6.0f ms  max=%6d ms  timeouts=%d  errors=%d",
+                e.getKey(), s.calls.get(), s.nanos.get() / 1_000_000_000.0,
+                s.nanos.get() / 1_000_000.0 / s.calls.get(), s.maxNanos.get() / 1_000_000,
+                s.timeouts.get(), s.errors.get()));
+        }
+        return sb.toString();
+    }
+}
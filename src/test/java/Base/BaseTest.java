@@ -7,28 +7,20 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.lang.reflect.Method;
-import java.util.HashMap;
 import java.util.Properties;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.edge.EdgeDriver;
-import org.openqa.selenium.edge.EdgeOptions;
-import org.openqa.selenium.firefox.FirefoxDriver;
-import org.openqa.selenium.firefox.FirefoxOptions;
 import org.testng.ITestResult;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 
-import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.MediaEntityBuilder;
-import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 
 // ✅ Allure Imports
 import io.qameta.allure.Allure;
@@ -42,26 +34,28 @@ import io.qameta.allure.Step;
 import io.qameta.allure.Story;
 import io.qameta.allure.model.Status;
 
+import Actions.ElementCache;
+import Actions.Probe;
+import Actions.StrategyRanker;
+import Actions.WaitEngine;
 import Pages.InitiativePage;
 import Pages.LoginPage;
 import Utils.ExcelReader;
 import Utils.LoginHelper;
 import Utils.ScreenshotUtil;
-import io.github.bonigarcia.wdm.WebDriverManager;
 
 public class BaseTest {
 
-    protected static WebDriver webDriver;
-    protected static ExtentReports extent;
-    protected static ExtentTest reportLogger;
-    private LoginPage loginPage;
-    protected LoginHelper loginHelper;
-    protected InitiativePage initiativePage;
+    // ✅ Page objects are bound to the driver of the thread that created them
+    private final ThreadLocal<LoginPage> loginPage = new ThreadLocal<>();
+    private final ThreadLocal<LoginHelper> loginHelper = new ThreadLocal<>();
+    private final ThreadLocal<InitiativePage> initiativePage = new ThreadLocal<>();
 
     protected String username, password, Title, Description, BG, OU;
 
-    // ✅ Config file
-    protected static Properties config;
+    // ✅ Config snapshot (typed) and a Properties view of it for helpers that take Properties
+    protected static final FrameworkConfig settings = FrameworkConfig.get();
+    protected static final Properties config = settings.asProperties();
     protected static final Logger log = LogManager.getLogger(BaseTest.class);
     
     // ✅ Flag to use LoginHelper (set to true to use configuration-based auth)
@@ -69,23 +63,12 @@ public class BaseTest {
 
     @BeforeClass
     public void setupExtent() throws Exception {
-        ExtentSparkReporter spark = new ExtentSparkReporter("extent-report.html");
-        extent = new ExtentReports();
-        extent.attachReporter(spark);
+        // ✅ One report per run, shared by every test class (see ExtentManager)
+        ExtentManager.getInstance();
 
-        // ✅ Load config.properties (always used for username/password)
-        try {
-            config = new Properties();
-            FileInputStream fis = new FileInputStream("src/main/resources/config.properties");
-            config.load(fis);
-            log.info("Loaded configuration file successfully.");
-        } catch (IOException e) {
-            log.error("Failed to load config.properties", e);
-        }
-
-        // ✅ Credentials only from config
-        username = config.getProperty("username");
-        password = config.getProperty("password");
+        // ✅ Credentials only from config (loaded once per JVM, see FrameworkConfig)
+        username = settings.getUsername();
+        password = settings.getPassword();
 
         if (username == null || username.isEmpty() || password == null || password.isEmpty()) {
             throw new RuntimeException("❌ Username/Password must be set in config.properties!");
@@ -98,76 +81,83 @@ public class BaseTest {
     @BeforeMethod
     public void setUp(Method method) {
         // ✅ Create test logger per method
-        reportLogger = extent.createTest(method.getName());
+        setReportLogger(createReportTest(method.getName()));
         log.info("===== Starting Test: " + method.getName() + " =====");
+        // ✅ All waits of this test (setUp included) share one deadline
+        WaitEngine.startTest();
 
-        // ✅ Pick browser from config
-        String browser = config.getProperty("browser", "edge").toLowerCase();
-        log.info("Launching browser: " + browser);
-
-        switch (browser) {
-            case "chrome":
-                // ✅ Use WebDriverManager to automatically manage ChromeDriver
-                WebDriverManager.chromedriver().setup();
-                ChromeOptions chromeOptions = new ChromeOptions();
-                chromeOptions.addArguments("--disable-notifications");
-                webDriver = new ChromeDriver(chromeOptions);
-                break;
-
-            case "firefox":
-                // ✅ Use WebDriverManager to automatically manage GeckoDriver
-                WebDriverManager.firefoxdriver().setup();
-                FirefoxOptions firefoxOptions = new FirefoxOptions();
-                webDriver = new FirefoxDriver(firefoxOptions);
-                break;
-
-            case "edge":
-            default:
-                // ✅ Fallback to manual driver setup due to network issues
-                try {
-                    // Try WebDriverManager first
-                    WebDriverManager.edgedriver().setup();
-                    log.info("✅ WebDriverManager successfully set up EdgeDriver");
-                } catch (Exception e) {
-                    // Fallback to manual driver path
-                    log.warn("⚠️ WebDriverManager failed, using manual driver setup: " + e.getMessage());
-                    System.setProperty("webdriver.edge.driver", "drivers/msedgedriver.exe");
-                }
-                
-                EdgeOptions edgeOptions = new EdgeOptions();
-                edgeOptions.addArguments("--disable-save-password-bubble");
-                edgeOptions.addArguments("--disable-notifications");
-                edgeOptions.setExperimentalOption("prefs", new HashMap<String, Object>() {{
-                    put("credentials_enable_service", false);
-                    put("profile.password_manager_enabled", false);
-                    put("profile.default_content_setting_values.notifications", 2);
-                }});
-                webDriver = new EdgeDriver(edgeOptions);
-                break;
+        // ✅ Open a fresh context in this thread's browser, lease a warm session from the pool,
+        //    take a prelaunched one, or launch the browser from config (fixtureScope=method)
+        boolean loggedIn = false;
+        if (settings.isDevAttach()) {
+            // ✅ Dev mode: attach to the already running (and usually logged-in) browser
+            SessionFixture.Lease lease = DevBrowserAttach.getInstance(config).acquire();
+            setDriver(lease.driver);
+            loggedIn = lease.loggedIn;
+        } else if (settings.getFixtureScope() != SessionFixture.Scope.METHOD) {
+            // ✅ Class/worker/suite scope: reuse the scope's browser, reset to the landing page
+            SessionFixture.Lease lease = SessionFixture.getInstance(config).acquire(getClass());
+            setDriver(lease.driver);
+            loggedIn = lease.loggedIn;
+        } else if (settings.isContextIsolation()) {
+            setDriver(BrowserContextIsolation.getInstance(config).open());
+        } else if (settings.isSessionPool()) {
+            setDriver(SessionPool.getInstance(config).lease());
+        } else if (settings.isPrelaunch()) {
+            DriverPrelauncher.Prelaunched session = DriverPrelauncher.getInstance(config).take();
+            setDriver(session.driver);
+            loggedIn = session.loggedIn;
+        } else {
+            setDriver(DriverFactory.createDriver(config));
         }
 
-        webDriver.manage().window().maximize();
+        WebDriver webDriver = getDriver();
+        try {
+            openApp(webDriver, loggedIn);
+        } catch (RuntimeException e) {
+            // tearDown does not run after a failed setUp; give the session back in every mode
+            // (lease, context, prelaunched browser, scope turn) and clear this thread's state
+            try {
+                releaseSession(webDriver, true);
+            } catch (RuntimeException releaseFailure) {
+                log.warn("⚠️ Could not release the session after a failed setUp: " + releaseFailure.getMessage());
+            }
+            endTestOnThread(getReportLogger());
+            throw e;
+        }
+    }
 
+    /**
+     * Navigates to the app, creates the page objects and logs in unless already logged in
+     */
+    private void openApp(WebDriver webDriver, boolean loggedIn) {
         // ✅ Navigate to URL from config
-        String appUrl = config.getProperty("url", "URLInconfig");
-        webDriver.get(appUrl);
-        log.info("Navigated to: " + appUrl);
+        if (!loggedIn) {
+            String appUrl = settings.getUrl();
+            webDriver.get(appUrl);
+            log.info("Navigated to: " + appUrl);
+        }
 
         // ✅ Initialize Page Objects
-        loginPage = new LoginPage(webDriver, reportLogger);
-        loginHelper = new LoginHelper(webDriver, reportLogger, config);
-        initiativePage = new InitiativePage(webDriver, reportLogger);
+        loginPage.set(new LoginPage(webDriver, getReportLogger()));
+        loginHelper.set(new LoginHelper(webDriver, getReportLogger(), config));
+        initiativePage.set(new InitiativePage(webDriver, getReportLogger()));
+
+        if (loggedIn) {
+            log.info("Session is already logged in - login skipped");
+            return;
+        }
 
         // ✅ Perform login
         if (useLoginHelper) {
             // Use LoginHelper for configuration-based authentication
             log.info("Using LoginHelper for authentication");
-            loginHelper.performLogin();
+            getLoginHelper().performLogin();
             log.info("Login successful using LoginHelper");
         } else {
             // Use legacy auto-detection login
             if (username != null && password != null) {
-                loginPage.login(username, password);
+                loginPage.get().login(username, password);
                 log.info("Login successful with user: " + username);
             } else {
                 log.warn("⚠️ Username/Password not set. Login skipped.");
@@ -177,6 +167,8 @@ public class BaseTest {
 
     @AfterMethod
     public void tearDown(ITestResult result) {
+        WebDriver webDriver = getDriver();
+        ExtentTest reportLogger = getReportLogger();
         try {
             // ✅ Allure Reporting Integration
             if (result.getStatus() == ITestResult.FAILURE) {
@@ -195,6 +187,12 @@ public class BaseTest {
                         MediaEntityBuilder.createScreenCaptureFromPath(screenshotPath).build());
                 log.error("❌ Test Failed: " + result.getName(), result.getThrowable());
                 
+            } else if (result.getStatus() == ITestResult.SUCCESS && SessionWatchdog.wasKilled(webDriver)) {
+                // A command hung and the watchdog reaped the session; never report that as a pass
+                result.setStatus(ITestResult.FAILURE);
+                reportLogger.fail("❌ Browser session hung and was killed by the session watchdog");
+                log.error("❌ Test Failed: " + result.getName() + " - session reaped by watchdog");
+
             } else if (result.getStatus() == ITestResult.SUCCESS) {
                 Allure.step("Test Passed Successfully", Status.PASSED);
                 reportLogger.pass("✅ Test Passed");
@@ -219,12 +217,97 @@ public class BaseTest {
             log.error("⚠️ Error while capturing screenshot/report", e);
         } finally {
             if (webDriver != null) {
-                webDriver.quit();
-                log.info("🟥 Browser closed successfully.");
+                boolean broken = SessionWatchdog.wasKilled(webDriver)
+                    || (result.getThrowable() != null && SessionPool.isSessionFatal(result.getThrowable()));
+                releaseSession(webDriver, broken);
             }
+            endTestOnThread(reportLogger);
         }
     }
 
+    /**
+     * Gives the test's session back the way the active mode expects (quit, pool, context, scope)
+     */
+    private void releaseSession(WebDriver webDriver, boolean broken) {
+        if (settings.isDevAttach()) {
+            DevBrowserAttach.getInstance(config).release(webDriver, broken);
+            log.info("🔗 Attached browser left open.");
+        } else if (settings.getFixtureScope() != SessionFixture.Scope.METHOD) {
+            SessionFixture.getInstance(config).release(webDriver, broken);
+            log.info(broken ? "🟥 Broken shared session closed." : "♻️ Session kept for the next test in scope.");
+        } else if (settings.isContextIsolation()) {
+            BrowserContextIsolation.getInstance(config).close(webDriver, broken);
+            log.info("🧹 Browser context disposed.");
+        } else if (settings.isSessionPool()) {
+            SessionPool.getInstance(config).release(webDriver, broken);
+            log.info("♻️ Browser session returned to pool.");
+        } else {
+            DriverFactory.quit(webDriver);
+            log.info("🟥 Browser closed successfully.");
+        }
+    }
+
+    /**
+     * Clears everything the test left on this worker thread
+     */
+    private void endTestOnThread(ExtentTest reportLogger) {
+        ElementCache.clear();
+        String waits = WaitEngine.endTest();
+        if (waits != null) {
+            log.info(waits);
+        }
+        loginPage.remove();
+        loginHelper.remove();
+        initiativePage.remove();
+        DriverContext.clear();
+        ExtentManager.getInstance().endTest(reportLogger);
+    }
+
+    // =====================
+    // Thread-confined session accessors
+    // =====================
+
+    /**
+     * @return WebDriver owned by the current test thread
+     */
+    protected static WebDriver getDriver() {
+        return DriverContext.getDriver();
+    }
+
+    protected static void setDriver(WebDriver driver) {
+        DriverContext.setDriver(driver);
+    }
+
+    /**
+     * @return ExtentTest node of the test running on the current thread
+     */
+    protected static ExtentTest getReportLogger() {
+        return DriverContext.getLogger();
+    }
+
+    protected static void setReportLogger(ExtentTest logger) {
+        DriverContext.setLogger(logger);
+    }
+
+    /**
+     * Creates the report node through ExtentManager (safe from parallel threads)
+     */
+    protected static ExtentTest createReportTest(String name) {
+        return ExtentManager.getInstance().createTest(name);
+    }
+
+    protected LoginHelper getLoginHelper() {
+        return loginHelper.get();
+    }
+
+    protected InitiativePage getInitiativePage() {
+        return initiativePage.get();
+    }
+
+    protected void setInitiativePage(InitiativePage page) {
+        initiativePage.set(page);
+    }
+
     // =====================
     // Screenshot utilities
     // =====================
@@ -251,11 +334,64 @@ public class BaseTest {
         }
     }
 
+    @AfterClass(alwaysRun = true)
+    public void closeClassScope() {
+        SessionFixture fixture = SessionFixture.getInstanceIfCreated();
+        if (fixture != null) {
+            fixture.closeClass(getClass());
+        }
+    }
+
     @AfterClass
     public void flushExtent() {
-        if (extent != null) {
-            extent.flush();
-            log.info("Extent report flushed successfully.");
+        // ✅ Written by ExtentManager's background flush; the final write happens in @AfterSuite
+        ExtentManager.getInstance().markDirty();
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void shutdownSessions() {
+        ExtentManager.getInstance().close();
+        // ✅ Let in-flight prelaunches finish, then quit every remaining session in parallel
+        DriverPrelauncher prelauncher = DriverPrelauncher.getInstanceIfCreated();
+        if (prelauncher != null) {
+            prelauncher.shutdown();
+        }
+        SessionRegistry.quitAll();
+
+        // Sessions are gone already; these only log their metrics and clear their bookkeeping
+        SessionPool pool = SessionPool.getInstanceIfCreated();
+        if (pool != null) {
+            pool.shutdown();
+        }
+        SessionFixture fixture = SessionFixture.getInstanceIfCreated();
+        if (fixture != null) {
+            fixture.shutdown();
+        }
+        BrowserContextIsolation isolation = BrowserContextIsolation.getInstanceIfCreated();
+        if (isolation != null) {
+            isolation.shutdown();
+        }
+        if (SharedDriverService.isEnabled(config, settings.getBrowser())) {
+            log.info(SharedDriverService.getMetricsSummary());
+        }
+        log.info(WaitEngine.getMetricsSummary());
+        log.info(Probe.getMetricsSummary());
+        log.info(ElementCache.getMetricsSummary());
+        log.info(StrategyRanker.getMetricsSummary());
+        StrategyRanker.save();
+        ProfileTemplate template = ProfileTemplate.getInstanceIfCreated();
+        if (template != null) {
+            log.info(template.getMetricsSummary());
+        }
+        HostCapacity capacity = HostCapacity.getInstanceIfCreated();
+        if (capacity != null) {
+            log.info(capacity.getMetricsSummary());
+        }
+        if (SessionWatchdog.getReapedCount() > 0) {
+            log.warn("⚠️ Hung sessions reaped by the watchdog: " + SessionWatchdog.getReapedCount());
+        }
+        for (DriverBinaryResolver.Resolution r : DriverBinaryResolver.getResolutions().values()) {
+            log.info("Driver resolution (once per JVM): " + r);
         }
     }
 
@@ -0,0 +1,216 @@
+package Base;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+import Actions.PageReadiness;
+
+/**
+ * BrowserContextIsolation - One long-lived browser per worker thread, a fresh browser context per test
+ *
+ * Enabled with testIsolation=context for Chrome and Edge. Instead of launching a browser process
+ * per test, each test gets a new incognito-like browser context (CDP Target.createBrowserContext)
+ * with its own cookies, storage and cache, opened as a tab in the thread's browser. At tearDown
+ * the context is disposed, which closes every window it opened. Firefox keeps the per-test
+ * browser (or the session pool, when enabled).
+ *
+ * Settings:
+ *   testIsolation      - process | context (default process)
+ *   contextMaxUses     - contexts per browser before it is replaced (default 50)
+ */
+public final class BrowserContextIsolation {
+
+    private static final Logger log = LogManager.getLogger(BrowserContextIsolation.class);
+    private static volatile BrowserContextIsolation instance;
+
+    private final Properties config;
+    private final int maxUses;
+    private final ThreadLocal<Browser> current = new ThreadLocal<>();
+    private final Set<Browser> browsers = ConcurrentHashMap.newKeySet();
+
+    // ✅ Metrics
+    private final AtomicInteger contexts = new AtomicInteger();
+    private final AtomicInteger launches = new AtomicInteger();
+    private final AtomicLong openNanos = new AtomicLong();
+
+    private static final class Browser {
+        final WebDriver driver;
+        final String homeHandle;
+        String contextId;
+        String targetId;
+        int uses;
+
+        Browser(WebDriver driver) {
+            this.driver = driver;
+            this.homeHandle = driver.getWindowHandle();
+        }
+    }
+
+    private BrowserContextIsolation(Properties config) {
+        this.config = config;
+        this.maxUses = Integer.parseInt(config.getProperty("contextMaxUses", "50").trim());
+    }
+
+    /**
+     * @return true when testIsolation=context and the browser is Chromium-based
+     */
+    public static boolean isEnabled(Properties config) {
+        if (config == null || !"context".equalsIgnoreCase(config.getProperty("testIsolation", "process").trim())) {
+            return false;
+        }
+        String browser = config.getProperty("browser", "edge").trim().toLowerCase();
+        return !"firefox".equals(browser);
+    }
+
+    public static BrowserContextIsolation getInstance(Properties config) {
+        if (instance == null) {
+            synchronized (BrowserContextIsolation.class) {
+                if (instance == null) {
+                    instance = new BrowserContextIsolation(config);
+                    log.info("Context isolation enabled: one browser per worker thread, maxUses=" + instance.maxUses);
+                }
+            }
+        }
+        return instance;
+    }
+
+    public static BrowserContextIsolation getInstanceIfCreated() {
+        return instance;
+    }
+
+    /**
+     * Opens a fresh browser context in this thread's browser and switches the driver to it
+     * @return Driver of the thread's browser, focused on a blank tab of the new context
+     */
+    public WebDriver open() {
+        Browser browser = current.get();
+        if (browser != null && (browser.uses >= maxUses || !isAlive(browser.driver))) {
+            discard(browser);
+            browser = null;
+        }
+        if (browser == null) {
+            browser = new Browser(DriverFactory.createDriver(config));
+            browsers.add(browser);
+            current.set(browser);
+            launches.incrementAndGet();
+        }
+
+        long start = System.nanoTime();
+        WebDriver driver = browser.driver;
+        HasCdp cdp = (HasCdp) driver;
+        Set<String> before = new HashSet<>(driver.getWindowHandles());
+
+        Map<String, Object> created = cdp.executeCdpCommand("Target.createBrowserContext", new HashMap<>());
+        browser.contextId = (String) created.get("browserContextId");
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("url", "about:blank");
+        params.put("browserContextId", browser.contextId);
+        Map<String, Object> target = cdp.executeCdpCommand("Target.createTarget", params);
+        browser.targetId = (String) target.get("targetId");
+
+        // ChromeDriver/EdgeDriver use the CDP target id as the window handle
+        try {
+            driver.switchTo().window(browser.targetId);
+        } catch (NoSuchWindowException e) {
+            Set<String> after = new HashSet<>(driver.getWindowHandles());
+            after.removeAll(before);
+            if (after.isEmpty()) throw e;
+            driver.switchTo().window(after.iterator().next());
+        }
+        if (DriverFactory.BrowserMode.fromConfig(config) == DriverFactory.BrowserMode.HEADED) {
+            driver.manage().window().maximize();
+        }
+        // The readiness hook is registered per target, so install it in the new tab too
+        PageReadiness.install(driver);
+
+        browser.uses++;
+        contexts.incrementAndGet();
+        long elapsed = System.nanoTime() - start;
+        openNanos.addAndGet(elapsed);
+        log.info("🧪 New browser context opened in " + (elapsed / 1_000_000) + " ms (use " + browser.uses + "/" + maxUses + ")");
+        return driver;
+    }
+
+    /**
+     * Disposes the test's context and keeps the browser for the next test on this thread
+     * @param sessionBroken true if the browser itself is unusable; it is quit and relaunched next time
+     */
+    public void close(WebDriver driver, boolean sessionBroken) {
+        if (driver == null) return;
+        Browser browser = current.get();
+        if (browser == null || browser.driver != driver) {
+            // Not ours - behave like the non-isolated path
+            quitQuietly(driver);
+            return;
+        }
+        if (sessionBroken) {
+            discard(browser);
+            return;
+        }
+        try {
+            driver.switchTo().window(browser.homeHandle);
+            Map<String, Object> params = new HashMap<>();
+            params.put("browserContextId", browser.contextId);
+            ((HasCdp) driver).executeCdpCommand("Target.disposeBrowserContext", params);
+            browser.contextId = null;
+            browser.targetId = null;
+        } catch (Exception e) {
+            log.warn("⚠️ Could not dispose browser context, replacing browser: " + e.getMessage());
+            discard(browser);
+        }
+    }
+
+    private void discard(Browser browser) {
+        browsers.remove(browser);
+        if (current.get() == browser) current.remove();
+        quitQuietly(browser.driver);
+    }
+
+    private boolean isAlive(WebDriver driver) {
+        try {
+            driver.getWindowHandles();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void quitQuietly(WebDriver driver) {
+        try {
+            DriverFactory.quit(driver);
+        } catch (Exception e) {
+            log.warn("⚠️ Error while quitting browser: " + e.getMessage());
+        }
+    }
+
+    public String getMetricsSummary() {
+        int count = contexts.get();
+        return String.format("Context isolation: contexts=%d, browsers launched=%d, avg context open=%.0f ms",
+            count, launches.get(), count == 0 ? 0 : openNanos.get() / 1_000_000.0 / count);
+    }
+
+    /**
+     * Quits every long-lived browser and logs the metrics
+     */
+    public synchronized void shutdown() {
+        if (browsers.isEmpty()) return;
+        log.info(getMetricsSummary());
+        for (Browser browser : browsers.toArray(new Browser[0])) {
+            browsers.remove(browser);
+            quitQuietly(browser.driver);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package Base;
+
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Properties;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeDriverService;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.remote.service.DriverService;
+
+import Actions.ElementCache;
+import Actions.PageReadiness;
+import Actions.SessionResetService;
+import Utils.AuthStateCache;
+
+/**
+ * DevBrowserAttach - Developer fast loop: run tests in a browser that is already open
+ *
+ * With debuggerAddress set, BaseTest attaches to a Chrome/Edge started with
+ * --remote-debugging-port instead of launching one, and never closes it: tearDown leaves it
+ * as it is and quitting at suite end only stops the driver process (ChromeDriver/EdgeDriver
+ * detach from a browser they did not start). The login of the previous run is reused, so an
+ * edit-run cycle on page objects skips the browser start and SSO.
+ * If nothing listens on the address and devBrowserBinary is set, the browser is started once
+ * with a persistent profile (devProfileDir) and outlives the test JVM.
+ * Meant for single-threaded local runs; the attached browser is shared by every test.
+ *
+ * Settings:
+ *   debuggerAddress   - host:port of the running browser, e.g. localhost:9222 (empty = off)
+ *   devBrowserBinary  - msedge/chrome executable to start when nothing is listening (optional)
+ *   devProfileDir     - profile of that browser, kept between runs (default dev-browser-profile)
+ */
+public final class DevBrowserAttach {
+
+    private static final Logger log = LogManager.getLogger(DevBrowserAttach.class);
+    private static volatile DevBrowserAttach instance;
+
+    private final Properties config;
+    private final String address;
+    private WebDriver driver;
+
+    private DevBrowserAttach(Properties config) {
+        this.config = config;
+        this.address = config.getProperty("debuggerAddress", "").trim();
+    }
+
+    /**
+     * @return true when debuggerAddress is set and the browser is Chromium-based
+     */
+    public static boolean isEnabled(Properties config) {
+        if (config == null || config.getProperty("debuggerAddress", "").trim().isEmpty()) {
+            return false;
+        }
+        String browser = config.getProperty("browser", "edge").trim().toLowerCase();
+        if ("firefox".equals(browser)) {
+            log.warn("⚠️ debuggerAddress is only supported for Chrome and Edge - launching Firefox as usual");
+            return false;
+        }
+        return true;
+    }
+
+    public static DevBrowserAttach getInstance(Properties config) {
+        if (instance == null) {
+            synchronized (DevBrowserAttach.class) {
+                if (instance == null) {
+                    instance = new DevBrowserAttach(config);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Attaches on first use (starting the browser if configured), then returns the same session,
+     * navigated to the landing page
+     * @return Lease whose loggedIn flag tells whether the browser still holds a valid login
+     */
+    public synchronized SessionFixture.Lease acquire() {
+        if (driver == null || !isAlive(driver)) {
+            if (driver != null) {
+                DriverFactory.quit(driver);
+            }
+            driver = attach();
+        }
+        String landing = config.getProperty("landingUrl", "").trim();
+        driver.get(landing.isEmpty() ? config.getProperty("url", "URLInconfig").trim() : landing);
+        PageReadiness.waitUntilReady(driver,
+            Duration.ofSeconds(Long.parseLong(config.getProperty("pageReadyTimeout", "30").trim())));
+        boolean signedIn = AuthStateCache.probeSignedIn(driver, Duration.ofSeconds(5));
+        log.info("🔗 Using attached browser at " + address + (signedIn ? " (still logged in)" : " (login required)"));
+        return new SessionFixture.Lease(driver, signedIn);
+    }
+
+    private WebDriver attach() {
+        if (!isListening()) {
+            startBrowser();
+        }
+        String browser = config.getProperty("browser", "edge").trim().toLowerCase();
+        DriverBinaryResolver.resolve(browser, config);
+        long start = System.currentTimeMillis();
+        WebDriver attached;
+        DriverService service;
+        if ("chrome".equals(browser)) {
+            ChromeOptions options = new ChromeOptions();
+            options.setExperimentalOption("debuggerAddress", address);
+            ChromeDriverService chromeService = ChromeDriverService.createDefaultService();
+            service = chromeService;
+            attached = new ChromeDriver(chromeService, options);
+        } else {
+            EdgeOptions options = new EdgeOptions();
+            options.setExperimentalOption("debuggerAddress", address);
+            EdgeDriverService edgeService = EdgeDriverService.createDefaultService();
+            service = edgeService;
+            attached = new EdgeDriver(edgeService, options);
+        }
+        PageReadiness.install(attached);
+        attached = ElementCache.track(attached);
+        SessionResetService.rememberMainWindow(attached);
+        // ✅ Only the driver process is tracked; the browser is not ours to kill
+        SessionRegistry.registerLocal(attached, service);
+        log.info("✅ Attached to running " + browser + " at " + address + " in "
+            + (System.currentTimeMillis() - start) + " ms");
+        return attached;
+    }
+
+    /**
+     * Starts the configured browser with remote debugging on the address port, detached from the test
+     */
+    private void startBrowser() {
+        String binary = config.getProperty("devBrowserBinary", "").trim();
+        if (binary.isEmpty()) {
+            throw new IllegalStateException("No browser listening on " + address
+                + ". Start Edge/Chrome with --remote-debugging-port=" + port()
+                + " --user-data-dir=<dir>, or set devBrowserBinary");
+        }
+        try {
+            Path profile = Paths.get(config.getProperty("devProfileDir", "dev-browser-profile").trim()).toAbsolutePath();
+            Files.createDirectories(profile);
+            new ProcessBuilder(binary,
+                "--remote-debugging-port=" + port(),
+                "--user-data-dir=" + profile,
+                "--no-first-run",
+                "--no-default-browser-check")
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+            log.info("Started " + binary + " for dev mode (profile " + profile + ")");
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not start " + binary + ": " + e.getMessage(), e);
+        }
+        long deadline = System.currentTimeMillis() + 20_000;
+        while (System.currentTimeMillis() < deadline) {
+            if (isListening()) return;
+            try {
+                Thread.sleep(250);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        throw new IllegalStateException("Browser did not open remote debugging on " + address + " within 20 s");
+    }
+
+    private String port() {
+        return address.substring(address.lastIndexOf(':') + 1);
+    }
+
+    private boolean isListening() {
+        HttpURLConnection conn = null;
+        try {
+            conn = (HttpURLConnection) new URL("http://" + address + "/json/version").openConnection();
+            conn.setConnectTimeout(1000);
+            conn.setReadTimeout(2000);
+            return conn.getResponseCode() == 200;
+        } catch (Exception e) {
+            return false;
+        } finally {
+            if (conn != null) conn.disconnect();
+        }
+    }
+
+    private boolean isAlive(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * tearDown hook: the browser stays open and logged in for the next test or run
+     */
+    public void release(WebDriver driver, boolean sessionBroken) {
+        if (sessionBroken && driver == this.driver) {
+            synchronized (this) {
+                // Re-attach next time; quitting detaches without closing the browser
+                DriverFactory.quit(driver);
+                this.driver = null;
+            }
+        }
+    }
+}
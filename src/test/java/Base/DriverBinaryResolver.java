@@ -0,0 +1,274 @@
+package Base;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.SessionNotCreatedException;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+/**
+ * DriverBinaryResolver - Resolves msedgedriver/chromedriver/geckodriver once per JVM
+ *
+ * Resolution used to run WebDriverManager in every @BeforeMethod, which on offline runners
+ * meant a failed network lookup per test. Now the first session for a browser:
+ *   1. detects the installed browser version,
+ *   2. looks for a matching driver in the local cache (driverCacheDir/name/major/binary),
+ *   3. only if nothing matches and driverOffline=false, asks WebDriverManager,
+ *   4. otherwise falls back to the unversioned binary in the cache root (drivers/msedgedriver.exe).
+ * In offline mode a missing driver fails the session with SessionNotCreatedException naming the
+ * cache path, instead of leaving it to Selenium Manager (which would download).
+ * The result is stored in the webdriver.*.driver system property and reused for the
+ * rest of the run.
+ *
+ * Settings:
+ *   driverOffline   - true | false (default false); never touch the network when true
+ *   driverCacheDir  - local driver cache (default drivers)
+ */
+public final class DriverBinaryResolver {
+
+    private static final Logger log = LogManager.getLogger(DriverBinaryResolver.class);
+    private static final Pattern VERSION = Pattern.compile("(\\d+)(\\.\\d+)+");
+    private static final boolean WINDOWS = System.getProperty("os.name", "").toLowerCase().contains("win");
+
+    private static final Map<String, Resolution> RESOLVED = new ConcurrentHashMap<>();
+
+    /**
+     * Outcome of one resolution, kept for reporting
+     */
+    public static final class Resolution {
+        public final String browser;
+        public final String browserVersion;
+        public final String driverPath;
+        public final String source;
+        public final long millis;
+
+        Resolution(String browser, String browserVersion, String driverPath, String source, long millis) {
+            this.browser = browser;
+            this.browserVersion = browserVersion;
+            this.driverPath = driverPath;
+            this.source = source;
+            this.millis = millis;
+        }
+
+        @Override
+        public String toString() {
+            return browser + " " + (browserVersion == null ? "(version unknown)" : browserVersion)
+                + " -> " + (driverPath == null ? "Selenium Manager" : driverPath)
+                + " [" + source + ", " + millis + " ms]";
+        }
+    }
+
+    private DriverBinaryResolver() {
+    }
+
+    /**
+     * Resolves the driver for a browser; only the first call per browser does any work
+     * @param browser chrome | edge | firefox
+     */
+    public static Resolution resolve(String browser, Properties config) {
+        return RESOLVED.computeIfAbsent(browser, b -> doResolve(b, config));
+    }
+
+    /**
+     * Drops the cached resolution so the next session resolves the driver again (startup benchmark)
+     */
+    public static void forget(String browser) {
+        if (RESOLVED.remove(browser) != null) {
+            System.clearProperty(driverProperty(browser));
+        }
+    }
+
+    /**
+     * @return Resolutions performed so far in this JVM
+     */
+    public static Map<String, Resolution> getResolutions() {
+        return RESOLVED;
+    }
+
+    private static Resolution doResolve(String browser, Properties config) {
+        long start = System.currentTimeMillis();
+        boolean offline = Boolean.parseBoolean(config.getProperty("driverOffline", "false").trim());
+        Path cacheDir = Paths.get(config.getProperty("driverCacheDir", "drivers").trim());
+
+        String driverName = driverName(browser);
+        String property = driverProperty(browser);
+        String version = detectBrowserVersion(browser);
+        String major = version == null ? null : version.split("\\.")[0];
+
+        String source;
+        Path driver = findCachedDriver(cacheDir, driverName, major);
+        if (driver != null) {
+            source = "local-cache";
+        } else if (!offline) {
+            try {
+                WebDriverManager wdm = manager(browser);
+                if (major != null && !"firefox".equals(browser)) wdm.browserVersion(major);
+                wdm.setup();
+                source = "webdrivermanager";
+                String resolved = System.getProperty(property);
+                driver = resolved == null ? null : Paths.get(resolved);
+            } catch (Exception e) {
+                // Fallback to manual driver path
+                log.warn("⚠️ WebDriverManager failed for " + browser + ": " + e.getMessage());
+                driver = legacyDriver(cacheDir, driverName);
+                source = driver != null ? "legacy-path" : "selenium-manager";
+            }
+        } else {
+            driver = legacyDriver(cacheDir, driverName);
+            if (driver == null) {
+                // Selenium Manager would go to the network on every launch - exactly what offline mode rules out
+                throw new SessionNotCreatedException("Offline mode: no " + driverName + " for " + browser + " "
+                    + (version == null ? "(version unknown)" : version) + " in the driver cache. Put it under "
+                    + cacheDir.toAbsolutePath().resolve(driverName).resolve(major == null ? "<major>" : major)
+                    + " or at " + cacheDir.toAbsolutePath().resolve(binaryName(driverName))
+                    + ", or set driverOffline=false");
+            }
+            source = "legacy-path";
+            log.warn("⚠️ Offline mode: no " + driverName + " cached for " + browser + " " + version
+                + " under " + cacheDir.toAbsolutePath().resolve(driverName) + " - using unversioned " + driver);
+        }
+        if (driver != null && !"webdrivermanager".equals(source)) {
+            System.setProperty(property, driver.toAbsolutePath().toString());
+        }
+
+        Resolution resolution = new Resolution(browser, version,
+            driver == null ? null : driver.toAbsolutePath().toString(), source, System.currentTimeMillis() - start);
+        log.info("✅ Driver resolved once for this JVM: " + resolution);
+        return resolution;
+    }
+
+    /**
+     * Looks for cacheDir/driverName/major/binary (geckodriver is not tied to the browser major)
+     */
+    private static Path findCachedDriver(Path cacheDir, String driverName, String major) {
+        String binary = binaryName(driverName);
+        if ("geckodriver".equals(driverName)) {
+            try (Stream<Path> files = Files.walk(cacheDir.resolve(driverName), 2)) {
+                return files.filter(p -> p.getFileName().toString().equals(binary)).findFirst().orElse(null);
+            } catch (Exception e) {
+                return null;
+            }
+        }
+        if (major == null) return null;
+        Path exact = cacheDir.resolve(driverName).resolve(major).resolve(binary);
+        return Files.isRegularFile(exact) ? exact : null;
+    }
+
+    /**
+     * Unversioned driver in the cache root (e.g. drivers/msedgedriver.exe)
+     */
+    private static Path legacyDriver(Path cacheDir, String driverName) {
+        Path legacy = cacheDir.resolve(binaryName(driverName));
+        return Files.isRegularFile(legacy) ? legacy : null;
+    }
+
+    private static String binaryName(String driverName) {
+        return WINDOWS ? driverName + ".exe" : driverName;
+    }
+
+    /**
+     * Reads the installed browser version from the browser binary (or the registry on Windows)
+     */
+    static String detectBrowserVersion(String browser) {
+        List<String[]> commands = new ArrayList<>();
+        if (WINDOWS) {
+            switch (browser) {
+                case "chrome":
+                    commands.add(new String[] {"reg", "query", "HKCU\\Software\\Google\\Chrome\\BLBeacon", "/v", "version"});
+                    break;
+                case "firefox":
+                    commands.add(new String[] {"reg", "query", "HKLM\\Software\\Mozilla\\Mozilla Firefox", "/v", "CurrentVersion"});
+                    break;
+                default:
+                    commands.add(new String[] {"reg", "query", "HKCU\\Software\\Microsoft\\Edge\\BLBeacon", "/v", "version"});
+                    break;
+            }
+        } else {
+            String[] binaries;
+            switch (browser) {
+                case "chrome":
+                    binaries = new String[] {"google-chrome", "google-chrome-stable", "chromium", "chromium-browser",
+                        "/Applications/Google Chrome.app/Contents/MacOS/Google Chrome"};
+                    break;
+                case "firefox":
+                    binaries = new String[] {"firefox", "/Applications/Firefox.app/Contents/MacOS/firefox"};
+                    break;
+                default:
+                    binaries = new String[] {"microsoft-edge", "microsoft-edge-stable",
+                        "/Applications/Microsoft Edge.app/Contents/MacOS/Microsoft Edge"};
+                    break;
+            }
+            for (String binary : binaries) {
+                commands.add(new String[] {binary, "--version"});
+            }
+        }
+
+        for (String[] command : commands) {
+            String output = run(command);
+            if (output == null) continue;
+            Matcher m = VERSION.matcher(output);
+            if (m.find()) return m.group();
+        }
+        return null;
+    }
+
+    private static String run(String[] command) {
+        if (command[0].startsWith("/") && !new File(command[0]).exists()) return null;
+        try {
+            Process p = new ProcessBuilder(command).redirectErrorStream(true).start();
+            StringBuilder out = new StringBuilder();
+            try (BufferedReader r = new BufferedReader(new InputStreamReader(p.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = r.readLine()) != null) out.append(line).append('\n');
+            }
+            if (!p.waitFor(10, TimeUnit.SECONDS)) {
+                p.destroyForcibly();
+                return null;
+            }
+            return p.exitValue() == 0 ? out.toString() : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static WebDriverManager manager(String browser) {
+        switch (browser) {
+            case "chrome":  return WebDriverManager.chromedriver();
+            case "firefox": return WebDriverManager.firefoxdriver();
+            default:        return WebDriverManager.edgedriver();
+        }
+    }
+
+    private static String driverName(String browser) {
+        switch (browser) {
+            case "chrome":  return "chromedriver";
+            case "firefox": return "geckodriver";
+            default:        return "msedgedriver";
+        }
+    }
+
+    private static String driverProperty(String browser) {
+        switch (browser) {
+            case "chrome":  return "webdriver.chrome.driver";
+            case "firefox": return "webdriver.gecko.driver";
+            default:        return "webdriver.edge.driver";
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package Base;
+
+import org.openqa.selenium.WebDriver;
+
+import com.aventstack.extentreports.ExtentTest;
+
+/**
+ * DriverContext - Thread-confined holder for the WebDriver and ExtentTest of the running test.
+ *
+ * Every TestNG worker thread gets its own driver and report logger, so suites can run with
+ * parallel="methods" without tests stepping on each other's browser. BaseTest, ActionEngine,
+ * the page objects and TestListener all resolve the current session through this class.
+ */
+public final class DriverContext {
+
+    private static final ThreadLocal<WebDriver> DRIVER = new ThreadLocal<>();
+    private static final ThreadLocal<ExtentTest> LOGGER = new ThreadLocal<>();
+
+    private DriverContext() {
+    }
+
+    /**
+     * @return WebDriver bound to the current thread, or null if none was started
+     */
+    public static WebDriver getDriver() {
+        return DRIVER.get();
+    }
+
+    public static void setDriver(WebDriver driver) {
+        if (driver == null) {
+            DRIVER.remove();
+        } else {
+            DRIVER.set(driver);
+        }
+    }
+
+    /**
+     * @return ExtentTest bound to the current thread, or null if reporting is not set up
+     */
+    public static ExtentTest getLogger() {
+        return LOGGER.get();
+    }
+
+    public static void setLogger(ExtentTest logger) {
+        if (logger == null) {
+            LOGGER.remove();
+        } else {
+            LOGGER.set(logger);
+        }
+    }
+
+    /**
+     * Drops both driver and logger for the current thread (call after the driver is quit)
+     */
+    public static void clear() {
+        DRIVER.remove();
+        LOGGER.remove();
+    }
+}
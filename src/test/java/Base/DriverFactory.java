@@ -0,0 +1,467 @@
+package Base;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Stream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeDriverService;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.service.DriverService;
+
+import Actions.ElementCache;
+import Actions.PageReadiness;
+import Actions.SessionResetService;
+
+/**
+ * DriverFactory - Creates browser sessions from config.properties
+ *
+ * Holds the browser branches that used to live in BaseTest.setUp so that BaseTest and the
+ * session pool build drivers the same way. A returned driver is launched (maximized in
+ * headed mode) but has not navigated anywhere yet. browserMode=headless-fast switches all
+ * three browsers to a headless, fixed-viewport, low-overhead profile; resourceCaps=true adds
+ * per-session memory/process caps for dense parallel runs on one host.
+ */
+public final class DriverFactory {
+
+    private static final Logger log = LogManager.getLogger(DriverFactory.class);
+    private static final Queue<Path> TEMP_PROFILES = new ConcurrentLinkedQueue<>();
+    private static final Map<WebDriver, Path> PROFILE_BY_DRIVER = new ConcurrentHashMap<>();
+    // Profile created by the option builders on this thread, claimed by the next driver created here
+    private static final ThreadLocal<Path> PENDING_PROFILE = new ThreadLocal<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(DriverFactory::deleteTempProfiles, "temp-profile-cleanup"));
+    }
+
+    private DriverFactory() {
+    }
+
+    /**
+     * Browser option profiles selectable with browserMode in config.properties
+     */
+    public enum BrowserMode {
+        /** Desktop run: visible window, maximized (default) */
+        HEADED,
+        /** Headless, fixed viewport, background features switched off */
+        HEADLESS_FAST;
+
+        public static BrowserMode fromConfig(Properties config) {
+            String mode = config.getProperty("browserMode", "headed").trim().toUpperCase().replace('-', '_');
+            try {
+                return valueOf(mode);
+            } catch (IllegalArgumentException e) {
+                log.warn("⚠️ Unknown browserMode '" + mode + "', using HEADED");
+                return HEADED;
+            }
+        }
+    }
+
+    /**
+     * Launches a new browser based on the "browser" property (chrome | edge | firefox)
+     * @param config Loaded config.properties
+     * @return New WebDriver session (maximized in HEADED mode, fixed viewport in HEADLESS_FAST)
+     */
+    public static WebDriver createDriver(Properties config) {
+        String browser = config.getProperty("browser", "edge").toLowerCase();
+        BrowserMode mode = BrowserMode.fromConfig(config);
+        log.info("Launching browser: " + browser + " (" + mode + ")"
+            + (GridManager.isEnabled(config) ? " on Grid " + GridManager.getGridUrl(config) : ""));
+        long start = System.currentTimeMillis();
+
+        WebDriver driver = launchDriver(config);
+        if (mode == BrowserMode.HEADED) {
+            driver.manage().window().maximize();
+        }
+        log.info("Browser " + browser + " (" + mode + ") ready in " + (System.currentTimeMillis() - start) + " ms");
+        return driver;
+    }
+
+    /**
+     * Starts the session without maximizing it (createDriver does that in HEADED mode);
+     * public so the startup benchmark can time both steps separately
+     */
+    public static WebDriver launchDriver(Properties config) {
+        String browser = config.getProperty("browser", "edge").toLowerCase();
+        boolean grid = GridManager.isEnabled(config);
+        WebDriver driver;
+        DriverService service = null;
+        boolean shared = !grid && SharedDriverService.isEnabled(config, browser);
+        HostCapacity capacity = grid ? null : HostCapacity.getInstance(config);
+        if (capacity != null) {
+            // ✅ Waits here while the host already runs maxSessionsPerHost browsers
+            capacity.acquire();
+        }
+        try {
+            switch (browser) {
+                case "chrome":
+                    ChromeOptions chromeOptions = buildChromeOptions(config);
+                    if (grid) {
+                        driver = GridManager.createRemoteDriver(config, chromeOptions);
+                    } else {
+                        DriverBinaryResolver.resolve("chrome", config);
+                        if (shared) {
+                            driver = SharedDriverService.createDriver("chrome", chromeOptions);
+                            break;
+                        }
+                        ChromeDriverService chromeService = ChromeDriverService.createDefaultService();
+                        service = chromeService;
+                        driver = new ChromeDriver(chromeService, chromeOptions);
+                    }
+                    break;
+
+                case "firefox":
+                    FirefoxOptions firefoxOptions = buildFirefoxOptions(config);
+                    if (grid) {
+                        driver = GridManager.createRemoteDriver(config, firefoxOptions);
+                    } else {
+                        DriverBinaryResolver.resolve("firefox", config);
+                        GeckoDriverService geckoService = GeckoDriverService.createDefaultService();
+                        service = geckoService;
+                        driver = new FirefoxDriver(geckoService, firefoxOptions);
+                    }
+                    break;
+
+                case "edge":
+                default:
+                    EdgeOptions edgeOptions = buildEdgeOptions(config);
+                    if (grid) {
+                        driver = GridManager.createRemoteDriver(config, edgeOptions);
+                    } else {
+                        // ✅ Resolved once per JVM (local cache, WebDriverManager, then drivers/msedgedriver.exe)
+                        DriverBinaryResolver.resolve("edge", config);
+                        if (shared) {
+                            driver = SharedDriverService.createDriver("edge", edgeOptions);
+                            break;
+                        }
+                        EdgeDriverService edgeService = EdgeDriverService.createDefaultService();
+                        service = edgeService;
+                        driver = new EdgeDriver(edgeService, edgeOptions);
+                    }
+                    break;
+            }
+        } catch (RuntimeException e) {
+            PENDING_PROFILE.remove();
+            if (capacity != null) capacity.release(null);
+            throw e;
+        }
+
+        WebDriver raw = driver;
+        try {
+            // Looked up on the raw driver, before any decorator wraps it
+            long browserPid = shared ? SharedDriverService.findBrowserPid(driver) : -1;
+            PageReadiness.install(driver);
+            // ✅ Navigation and window/frame switches clear ActionEngine's element cache
+            driver = ElementCache.track(driver);
+            // ✅ Commands are tracked from here on; a hung command gets its session reaped
+            driver = SessionWatchdog.watch(driver, config);
+            // ✅ Tracked until quit; a shared service is never killed, only the session's browser
+            if (shared) {
+                SessionRegistry.registerProcess(driver, browserPid);
+            } else {
+                SessionRegistry.registerLocal(driver, service);
+            }
+            // ✅ Session resets keep this window and close every other one
+            SessionResetService.rememberMainWindow(driver);
+            if (capacity != null) {
+                capacity.bind(driver);
+            }
+        } catch (RuntimeException e) {
+            // The browser is running but not fully set up: do not leak it or its host slot
+            log.warn("⚠️ Session setup failed after launch, quitting the browser: " + e.getMessage());
+            try {
+                raw.quit();
+            } catch (Exception quitFailure) {
+                // Only does something if the session got registered before the failure
+                SessionRegistry.killProcessTree(driver);
+            }
+            SessionRegistry.unregister(driver);
+            SessionWatchdog.unwatch(driver);
+            if (capacity != null) capacity.release(null);
+            Path profile = PENDING_PROFILE.get();
+            PENDING_PROFILE.remove();
+            if (profile != null) {
+                deleteDir(profile);
+                TEMP_PROFILES.remove(profile);
+            }
+            throw e;
+        }
+
+        Path profile = PENDING_PROFILE.get();
+        PENDING_PROFILE.remove();
+        if (profile != null) {
+            PROFILE_BY_DRIVER.put(driver, profile);
+        }
+        return driver;
+    }
+
+    /**
+     * Quits a session created here and removes its temporary profile directory
+     */
+    public static void quit(WebDriver driver) {
+        if (driver == null || SessionRegistry.hasEnded(driver)) return;
+        boolean quit = false;
+        try {
+            // A reaped session has no driver process left to answer quit
+            if (!SessionWatchdog.wasKilled(driver)) {
+                driver.quit();
+                quit = true;
+            }
+        } finally {
+            if (!quit && !SessionWatchdog.wasKilled(driver)) {
+                // quit failed: do not leave the driver/browser processes behind
+                SessionRegistry.killProcessTree(driver);
+            }
+            SessionRegistry.unregister(driver);
+            SessionWatchdog.unwatch(driver);
+            HostCapacity capacity = HostCapacity.getInstanceIfCreated();
+            if (capacity != null) {
+                capacity.release(driver);
+            }
+            Path profile = PROFILE_BY_DRIVER.remove(driver);
+            ProfileTemplate template = ProfileTemplate.getInstanceIfCreated();
+            if (profile != null && quit && template != null) {
+                // ✅ The browser has flushed its cache; it may become the template for this app build
+                template.harvest(profile);
+            }
+            if (profile != null) {
+                deleteDir(profile);
+                TEMP_PROFILES.remove(profile);
+            }
+        }
+    }
+
+    // =====================
+    // Option builders
+    // =====================
+
+    public static ChromeOptions buildChromeOptions(Properties config) {
+        ChromeOptions chromeOptions = new ChromeOptions();
+        chromeOptions.addArguments("--disable-notifications");
+        chromeOptions.setPageLoadStrategy(pageLoadStrategy(config));
+        if (BrowserMode.fromConfig(config) == BrowserMode.HEADLESS_FAST) {
+            applyHeadlessFast(chromeOptions, config);
+        }
+        if (resourceCapsEnabled(config)) {
+            applyResourceCaps(chromeOptions, config);
+        }
+        if (ProfileTemplate.isEnabled(config) && !GridManager.isEnabled(config)) {
+            applyProfileTemplate(chromeOptions, config);
+        }
+        return chromeOptions;
+    }
+
+    public static EdgeOptions buildEdgeOptions(Properties config) {
+        EdgeOptions edgeOptions = new EdgeOptions();
+        edgeOptions.setPageLoadStrategy(pageLoadStrategy(config));
+        edgeOptions.addArguments("--disable-save-password-bubble");
+        edgeOptions.addArguments("--disable-notifications");
+        edgeOptions.setExperimentalOption("prefs", new HashMap<String, Object>() {{
+            put("credentials_enable_service", false);
+            put("profile.password_manager_enabled", false);
+            put("profile.default_content_setting_values.notifications", 2);
+        }});
+        if (BrowserMode.fromConfig(config) == BrowserMode.HEADLESS_FAST) {
+            applyHeadlessFast(edgeOptions, config);
+        }
+        if (resourceCapsEnabled(config)) {
+            applyResourceCaps(edgeOptions, config);
+        }
+        if (ProfileTemplate.isEnabled(config) && !GridManager.isEnabled(config)) {
+            applyProfileTemplate(edgeOptions, config);
+        }
+        return edgeOptions;
+    }
+
+    public static FirefoxOptions buildFirefoxOptions(Properties config) {
+        FirefoxOptions firefoxOptions = new FirefoxOptions();
+        firefoxOptions.setPageLoadStrategy(pageLoadStrategy(config));
+        if (BrowserMode.fromConfig(config) == BrowserMode.HEADLESS_FAST) {
+            firefoxOptions.addArguments("-headless");
+            firefoxOptions.addArguments("--width=" + viewportWidth(config), "--height=" + viewportHeight(config));
+            firefoxOptions.addPreference("extensions.update.enabled", false);
+            firefoxOptions.addPreference("app.update.auto", false);
+            firefoxOptions.addPreference("app.update.enabled", false);
+            firefoxOptions.addPreference("browser.shell.checkDefaultBrowser", false);
+            firefoxOptions.addPreference("browser.startup.homepage_override.mstone", "ignore");
+            firefoxOptions.addPreference("datareporting.policy.dataSubmissionEnabled", false);
+            firefoxOptions.addPreference("toolkit.telemetry.enabled", false);
+            firefoxOptions.addPreference("services.sync.enabled", false);
+            firefoxOptions.addPreference("network.prefetch-next", false);
+            firefoxOptions.addPreference("layers.acceleration.disabled", true);
+            Path profile = createTempProfileDir(config);
+            if (profile != null) {
+                firefoxOptions.addArguments("-profile", profile.toString());
+            }
+        }
+        if (resourceCapsEnabled(config)) {
+            // Firefox counterparts of the Chromium caps (cache sizes in KB)
+            firefoxOptions.addPreference("dom.ipc.processCount", rendererProcessLimit(config));
+            firefoxOptions.addPreference("browser.cache.disk.capacity", diskCacheMb(config) * 1024);
+            firefoxOptions.addPreference("browser.cache.disk.smart_size.enabled", false);
+            firefoxOptions.addPreference("media.cache_size", mediaCacheMb(config) * 1024);
+            firefoxOptions.addPreference("javascript.options.mem.max", jsHeapMb(config) * 1024);
+            if (PENDING_PROFILE.get() == null) {
+                Path profile = createTempProfileDir(config);
+                if (profile != null) {
+                    firefoxOptions.addArguments("-profile", profile.toString());
+                }
+            }
+        }
+        return firefoxOptions;
+    }
+
+    /**
+     * Headless rendering, fixed viewport and no extensions, GPU, background networking,
+     * sync, component updates or first-run work (Chrome and Edge share these switches)
+     */
+    private static void applyHeadlessFast(ChromiumOptions<?> options, Properties config) {
+        options.addArguments(
+            "--headless=new",
+            "--window-size=" + viewportWidth(config) + "," + viewportHeight(config),
+            "--disable-extensions",
+            "--disable-gpu",
+            "--disable-background-networking",
+            "--disable-sync",
+            "--disable-component-update",
+            "--disable-default-apps",
+            "--no-first-run",
+            "--no-default-browser-check",
+            "--mute-audio");
+        Path profile = createTempProfileDir(config);
+        if (profile != null) {
+            options.addArguments("--user-data-dir=" + profile);
+        }
+    }
+
+    /**
+     * Per-session caps so more browsers fit on one host: fewer renderer processes, small disk
+     * and media caches, a bounded V8 heap and a throw-away profile under profileDir
+     */
+    private static void applyResourceCaps(ChromiumOptions<?> options, Properties config) {
+        options.addArguments(
+            "--renderer-process-limit=" + rendererProcessLimit(config),
+            "--disk-cache-size=" + diskCacheMb(config) * 1024L * 1024L,
+            "--media-cache-size=" + mediaCacheMb(config) * 1024L * 1024L,
+            "--js-flags=--max-old-space-size=" + jsHeapMb(config));
+        // headless-fast already gave this session a temp profile
+        if (PENDING_PROFILE.get() == null) {
+            Path profile = createTempProfileDir(config);
+            if (profile != null) {
+                options.addArguments("--user-data-dir=" + profile);
+            }
+        }
+    }
+
+    /**
+     * Starts the session on a throw-away profile whose HTTP cache is cloned from the template
+     */
+    private static void applyProfileTemplate(ChromiumOptions<?> options, Properties config) {
+        Path profile = PENDING_PROFILE.get();
+        if (profile == null) {
+            profile = createTempProfileDir(config);
+            if (profile == null) return;
+            options.addArguments("--user-data-dir=" + profile);
+        }
+        ProfileTemplate.getInstance(config).prepare(profile);
+    }
+
+    private static boolean resourceCapsEnabled(Properties config) {
+        return Boolean.parseBoolean(config.getProperty("resourceCaps", "false").trim());
+    }
+
+    private static int rendererProcessLimit(Properties config) {
+        return Integer.parseInt(config.getProperty("rendererProcessLimit", "2").trim());
+    }
+
+    private static int diskCacheMb(Properties config) {
+        return Integer.parseInt(config.getProperty("diskCacheMB", "64").trim());
+    }
+
+    private static int mediaCacheMb(Properties config) {
+        return Integer.parseInt(config.getProperty("mediaCacheMB", "16").trim());
+    }
+
+    private static int jsHeapMb(Properties config) {
+        return Integer.parseInt(config.getProperty("jsHeapMB", "512").trim());
+    }
+
+    /**
+     * pageLoadStrategy=normal | eager | none; with eager/none page objects rely on
+     * PageReadiness instead of waiting for every subresource
+     */
+    public static PageLoadStrategy pageLoadStrategy(Properties config) {
+        String value = config.getProperty("pageLoadStrategy", "normal").trim().toUpperCase();
+        try {
+            return PageLoadStrategy.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            log.warn("⚠️ Unknown pageLoadStrategy '" + value + "', using NORMAL");
+            return PageLoadStrategy.NORMAL;
+        }
+    }
+
+    private static int viewportWidth(Properties config) {
+        return Integer.parseInt(config.getProperty("viewportWidth", "1920").trim());
+    }
+
+    private static int viewportHeight(Properties config) {
+        return Integer.parseInt(config.getProperty("viewportHeight", "1080").trim());
+    }
+
+    /**
+     * Throw-away profile directory under profileDir if set, else on tmpfs (/dev/shm) when
+     * profileTmpfs=true and available. Removed by quit(driver), or when the JVM exits at the latest.
+     */
+    private static Path createTempProfileDir(Properties config) {
+        try {
+            Path base = Paths.get(System.getProperty("java.io.tmpdir"));
+            Path shm = Paths.get("/dev/shm");
+            String profileDir = config.getProperty("profileDir", "").trim();
+            if (!profileDir.isEmpty()) {
+                base = Files.createDirectories(Paths.get(profileDir));
+            } else if (Boolean.parseBoolean(config.getProperty("profileTmpfs", "true").trim())
+                    && Files.isDirectory(shm) && Files.isWritable(shm)) {
+                base = shm;
+            }
+            Path dir = Files.createTempDirectory(base, "wd-profile-");
+            TEMP_PROFILES.add(dir);
+            PENDING_PROFILE.set(dir);
+            return dir;
+        } catch (IOException e) {
+            log.warn("⚠️ Could not create temp profile dir, using driver default: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static void deleteTempProfiles() {
+        for (Path dir : TEMP_PROFILES) {
+            deleteDir(dir);
+        }
+    }
+
+    static void deleteDir(Path dir) {
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        } catch (Exception ignored) {}
+    }
+}
@@ -0,0 +1,145 @@
+package Base;
+
+import java.util.Collections;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import Utils.LoginHelper;
+
+/**
+ * DriverPrelauncher - Launches the next test's browser while the current test is still running
+ *
+ * Enabled with prelaunch=true. When a test takes its browser in setUp, the browser for the
+ * next test on the same worker thread is started in the background, so its startup overlaps
+ * with the current test body and tearDown. With prelaunchLogin=true the background browser
+ * also navigates to the app and logs in.
+ */
+public final class DriverPrelauncher {
+
+    private static final Logger log = LogManager.getLogger(DriverPrelauncher.class);
+    private static volatile DriverPrelauncher instance;
+
+    private final Properties config;
+    private final boolean loginAhead;
+    private final ExecutorService executor;
+    private final ThreadLocal<Future<Prelaunched>> next = new ThreadLocal<>();
+    private final Set<Future<Prelaunched>> pending = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    /**
+     * Browser handed to a test, with a flag telling whether it is already logged in
+     */
+    public static final class Prelaunched {
+        public final WebDriver driver;
+        public final boolean loggedIn;
+
+        Prelaunched(WebDriver driver, boolean loggedIn) {
+            this.driver = driver;
+            this.loggedIn = loggedIn;
+        }
+    }
+
+    private DriverPrelauncher(Properties config) {
+        this.config = config;
+        this.loginAhead = Boolean.parseBoolean(config.getProperty("prelaunchLogin", "false").trim());
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "driver-prelaunch-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * @return true when prelaunch=true in config
+     */
+    public static boolean isEnabled(Properties config) {
+        return config != null && Boolean.parseBoolean(config.getProperty("prelaunch", "false").trim());
+    }
+
+    public static DriverPrelauncher getInstance(Properties config) {
+        if (instance == null) {
+            synchronized (DriverPrelauncher.class) {
+                if (instance == null) {
+                    instance = new DriverPrelauncher(config);
+                    Runtime.getRuntime().addShutdownHook(new Thread(instance::shutdown, "driver-prelaunch-shutdown"));
+                }
+            }
+        }
+        return instance;
+    }
+
+    public static DriverPrelauncher getInstanceIfCreated() {
+        return instance;
+    }
+
+    /**
+     * Takes the browser prepared for this thread (or launches one now) and starts
+     * preparing the following one in the background
+     */
+    public Prelaunched take() {
+        Prelaunched session = null;
+        Future<Prelaunched> future = next.get();
+        next.remove();
+        if (future != null) {
+            pending.remove(future);
+            try {
+                long start = System.currentTimeMillis();
+                session = future.get();
+                log.info("⚡ Using prelaunched browser (waited " + (System.currentTimeMillis() - start) + " ms)");
+            } catch (Exception e) {
+                log.warn("⚠️ Prelaunch failed, launching synchronously: " + e.getMessage());
+            }
+        }
+        if (session == null) {
+            session = new Prelaunched(DriverFactory.createDriver(config), false);
+        }
+
+        Future<Prelaunched> upcoming = executor.submit(this::launch);
+        pending.add(upcoming);
+        next.set(upcoming);
+        return session;
+    }
+
+    private Prelaunched launch() {
+        WebDriver driver = DriverFactory.createDriver(config);
+        if (!loginAhead) {
+            return new Prelaunched(driver, false);
+        }
+        try {
+            // Page objects resolve the driver per thread, so bind it to this background thread
+            DriverContext.setDriver(driver);
+            driver.get(config.getProperty("url", "URLInconfig"));
+            new LoginHelper(driver, null, config).performLogin();
+            return new Prelaunched(driver, true);
+        } catch (Exception e) {
+            log.warn("⚠️ Background login failed, test will log in itself: " + e.getMessage());
+            return new Prelaunched(driver, false);
+        } finally {
+            DriverContext.clear();
+        }
+    }
+
+    /**
+     * Quits browsers that were prepared but never used (e.g. after the last test)
+     */
+    public void shutdown() {
+        executor.shutdown();
+        for (Future<Prelaunched> future : pending) {
+            try {
+                Prelaunched unused = future.get(60, TimeUnit.SECONDS);
+                DriverFactory.quit(unused.driver);
+            } catch (Exception ignored) {}
+        }
+        pending.clear();
+    }
+}
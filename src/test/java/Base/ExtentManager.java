@@ -0,0 +1,229 @@
+package Base;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.reporter.ExtentSparkReporter;
+
+/**
+ * ExtentManager - One ExtentReports instance per run, shared by all test classes and threads
+ *
+ * BaseTest used to create a new ExtentReports and extent-report.html in every @BeforeClass,
+ * so each class overwrote the previous one. Now the report is created once, test nodes are
+ * created under a lock, and the HTML is written by a background thread at most every
+ * extentFlushSeconds (only when something changed) plus once at the end of the suite.
+ * Test threads never render the report themselves.
+ * ExtentReports renders a file from its whole in-memory model, so a single report grows with
+ * every test and log line. After extentTestsPerReport tests the report is continued in a new
+ * part (extent-report-part2.html, ...); a full part is written one last time once its last
+ * test has ended (endTest) and is then dropped, so memory stays bounded by the part size.
+ *
+ * Settings:
+ *   extentReportPath      - output file of the first part (default extent-report.html)
+ *   extentFlushSeconds    - background flush interval, 0 = only at suite end (default 30)
+ *   extentTestsPerReport  - tests per report part, 0 = one report for the whole run (default 500)
+ */
+public final class ExtentManager {
+
+    private static final Logger log = LogManager.getLogger(ExtentManager.class);
+    private static volatile ExtentManager instance;
+
+    private final String reportPath;
+    private final int testsPerReport;
+    private final Object lock = new Object();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final AtomicInteger testCount = new AtomicInteger();
+    private final ScheduledExecutorService flusher;
+    private volatile boolean closed;
+
+    // Part receiving new tests, full parts whose tests are still running, and each test's part
+    private Part current;
+    private final List<Part> retiring = new ArrayList<>();
+    private final Map<ExtentTest, Part> partByTest = new ConcurrentHashMap<>();
+
+    private static final class Part {
+        final ExtentReports extent = new ExtentReports();
+        final String path;
+        int created;
+        int running;
+
+        Part(String path) {
+            this.path = path;
+            extent.attachReporter(new ExtentSparkReporter(path));
+        }
+    }
+
+    private ExtentManager(FrameworkConfig settings) {
+        this.reportPath = settings.get("extentReportPath", "extent-report.html").trim();
+        this.testsPerReport = parse(settings.get("extentTestsPerReport", "500"), 500);
+        this.current = new Part(reportPath);
+
+        long interval = parse(settings.get("extentFlushSeconds", "30"), 30);
+        if (interval > 0) {
+            flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "extent-flush");
+                t.setDaemon(true);
+                return t;
+            });
+            flusher.scheduleWithFixedDelay(this::flushIfDirty, interval, interval, TimeUnit.SECONDS);
+        } else {
+            flusher = null;
+        }
+        log.info("Extent report for this run: " + reportPath
+            + (interval > 0 ? " (background flush every " + interval + " s)" : "")
+            + (testsPerReport > 0 ? ", new part every " + testsPerReport + " tests" : ""));
+    }
+
+    private static int parse(String value, int fallback) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+
+    public static ExtentManager getInstance() {
+        if (instance == null) {
+            synchronized (ExtentManager.class) {
+                if (instance == null) {
+                    instance = new ExtentManager(FrameworkConfig.get());
+                    Runtime.getRuntime().addShutdownHook(new Thread(instance::close, "extent-flush-shutdown"));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * @return Report part that receives new tests (for callers that need to attach system info etc.)
+     */
+    public ExtentReports getReports() {
+        synchronized (lock) {
+            return current.extent;
+        }
+    }
+
+    /**
+     * Creates a test node; safe to call from parallel test threads
+     */
+    public ExtentTest createTest(String name) {
+        synchronized (lock) {
+            if (testsPerReport > 0 && current.created >= testsPerReport) {
+                retire(current);
+                current = new Part(partPath(testCount.get() / testsPerReport + 1));
+                log.info("Extent report continues in " + current.path);
+            }
+            ExtentTest test = current.extent.createTest(name);
+            current.created++;
+            current.running++;
+            partByTest.put(test, current);
+            testCount.incrementAndGet();
+            dirty.set(true);
+            return test;
+        }
+    }
+
+    /**
+     * Marks a test as finished; the last test of a full part writes and releases that part
+     */
+    public void endTest(ExtentTest test) {
+        dirty.set(true);
+        if (test == null) return;
+        synchronized (lock) {
+            Part part = partByTest.remove(test);
+            if (part == null) return;
+            part.running--;
+            if (part.running <= 0 && retiring.remove(part)) {
+                write(part);
+            }
+        }
+    }
+
+    /**
+     * Marks the report as changed so the next background flush writes it
+     */
+    public void markDirty() {
+        dirty.set(true);
+    }
+
+    private void retire(Part part) {
+        if (part.running > 0) {
+            retiring.add(part);
+        } else {
+            write(part);
+        }
+    }
+
+    private String partPath(int number) {
+        int dot = reportPath.lastIndexOf('.');
+        return dot > 0
+            ? reportPath.substring(0, dot) + "-part" + number + reportPath.substring(dot)
+            : reportPath + "-part" + number;
+    }
+
+    private void flushIfDirty() {
+        if (dirty.getAndSet(false)) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes the report now (the current part and any full part with tests still running)
+     */
+    public void flush() {
+        synchronized (lock) {
+            for (Part part : retiring) {
+                write(part);
+            }
+            write(current);
+        }
+    }
+
+    private void write(Part part) {
+        try {
+            long start = System.currentTimeMillis();
+            part.extent.flush();
+            log.debug("Extent report " + part.path + " flushed (" + part.created + " tests) in "
+                + (System.currentTimeMillis() - start) + " ms");
+        } catch (Exception e) {
+            // Usually a test thread logging while the report renders; retry on the next tick
+            dirty.set(true);
+            log.warn("⚠️ Extent report flush failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stops the background flusher and writes the final report
+     */
+    public void close() {
+        if (closed) return;
+        closed = true;
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        dirty.set(false);
+        flush();
+        synchronized (lock) {
+            retiring.clear();
+        }
+        log.info("Extent report flushed successfully: " + reportPath + " (" + testCount.get() + " tests"
+            + (current.path.equals(reportPath) ? "" : ", last part " + current.path) + ")");
+    }
+}
@@ -0,0 +1,190 @@
+package Base;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import Utils.LoginHelper.AuthType;
+
+/**
+ * FrameworkConfig - Typed, immutable configuration snapshot, loaded once per JVM
+ *
+ * Values are layered, later layers winning:
+ *   1. src/main/resources/config.properties
+ *   2. environment variables, key in UPPER_SNAKE_CASE with the INIT_ prefix
+ *      (sessionPoolSize -> INIT_SESSION_POOL_SIZE); the prefix keeps OS variables such as
+ *      USERNAME (always set on Windows) from replacing the login
+ *   3. system properties with the same key (-DsessionPoolSize=4)
+ *
+ * Per-test paths (waits, setUp/tearDown, login) read the typed getters. Components that are
+ * set up once per JVM or per session (pool, prelauncher, DriverFactory option builders) take a
+ * Properties copy from asProperties() and parse their keys when they are created, so callers
+ * such as the startup benchmark can pass modified values.
+ */
+public final class FrameworkConfig {
+
+    private static final Logger log = LogManager.getLogger(FrameworkConfig.class);
+    public static final String CONFIG_FILE = "src/main/resources/config.properties";
+    static final String ENV_PREFIX = "INIT_";
+
+    // Keys that may be supplied through env/system properties even when absent from the file
+    private static final Set<String> KNOWN_KEYS = new LinkedHashSet<>(Arrays.asList(
+        "url", "browser", "username", "password", "email", "ssoPassword", "authType", "defaultWait",
+        "browserMode", "viewportWidth", "viewportHeight", "profileTmpfs", "pageLoadStrategy", "pageReadyTimeout",
+        "sessionPool", "sessionPoolSize", "sessionPoolMaxUses", "prelaunch", "prelaunchLogin",
+        "authStateCache", "authStateMaxAgeMinutes", "driverOffline", "driverCacheDir",
+        "executionMode", "gridUrl", "gridAutoStart", "gridServerJar", "gridMaxSessions", "gridAutoParallel",
+        "testIsolation", "contextMaxUses", "fixtureScope", "landingUrl",
+        "resourceCaps", "profileDir", "maxSessionsPerHost", "sessionDensityReport", "debuggerAddress", "devBrowserBinary",
+        "profileTemplate", "appBuildId", "testWaitBudgetSeconds", "probeBudgetMs", "elementCache",
+        "strategyLearning", "strategyMinSamples", "strategyDemoteFailureRate"));
+
+    private static final class Holder {
+        static final FrameworkConfig INSTANCE = load();
+    }
+
+    private final Properties values;
+
+    private final String url;
+    private final String browser;
+    private final String username;
+    private final String password;
+    private final AuthType authType;
+    private final Duration defaultWait;
+    private final Duration pageReadyTimeout;
+    private final Duration probeBudget;
+    private final boolean sessionPool;
+    private final boolean prelaunch;
+    private final boolean authStateCache;
+    private final boolean devAttach;
+    private final boolean contextIsolation;
+    private final SessionFixture.Scope fixtureScope;
+
+    private FrameworkConfig(Properties values) {
+        this.values = values;
+        this.url = values.getProperty("url", "URLInconfig").trim();
+        this.browser = values.getProperty("browser", "edge").trim().toLowerCase();
+        this.username = values.getProperty("username");
+        this.password = values.getProperty("password");
+        this.authType = parseAuthType(values.getProperty("authType", "FORM"));
+        this.defaultWait = Duration.ofSeconds(intValue("defaultWait", 40));
+        this.pageReadyTimeout = Duration.ofSeconds(intValue("pageReadyTimeout", 30));
+        this.probeBudget = Duration.ofMillis(intValue("probeBudgetMs", 2000));
+        this.sessionPool = SessionPool.isEnabled(values);
+        this.prelaunch = DriverPrelauncher.isEnabled(values);
+        this.authStateCache = boolValue("authStateCache", false);
+        this.devAttach = DevBrowserAttach.isEnabled(values);
+        this.contextIsolation = BrowserContextIsolation.isEnabled(values);
+        this.fixtureScope = SessionFixture.Scope.fromConfig(values);
+    }
+
+    /**
+     * @return Snapshot for this JVM (loaded on first use)
+     */
+    public static FrameworkConfig get() {
+        return Holder.INSTANCE;
+    }
+
+    private static FrameworkConfig load() {
+        Properties merged = new Properties();
+        try (InputStream in = new FileInputStream(CONFIG_FILE)) {
+            merged.load(in);
+            log.info("Loaded configuration file successfully.");
+        } catch (IOException e) {
+            log.error("Failed to load config.properties", e);
+        }
+
+        Set<String> keys = new LinkedHashSet<>(KNOWN_KEYS);
+        keys.addAll(merged.stringPropertyNames());
+        Map<String, String> env = System.getenv();
+        int overrides = 0;
+        for (String key : keys) {
+            String value = env.get(envName(key));
+            if (value != null) {
+                merged.setProperty(key, value);
+                overrides++;
+            }
+            value = System.getProperty(key);
+            if (value != null) {
+                merged.setProperty(key, value);
+                overrides++;
+            }
+        }
+        if (overrides > 0) {
+            log.info("Applied " + overrides + " configuration override(s) from environment/system properties");
+        }
+        return new FrameworkConfig(merged);
+    }
+
+    /**
+     * sessionPoolSize -> INIT_SESSION_POOL_SIZE
+     */
+    static String envName(String key) {
+        return ENV_PREFIX + key.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase();
+    }
+
+    private int intValue(String key, int defaultValue) {
+        String value = values.getProperty(key);
+        if (value == null || value.trim().isEmpty()) return defaultValue;
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("⚠️ Invalid number for " + key + "='" + value + "', using " + defaultValue);
+            return defaultValue;
+        }
+    }
+
+    private boolean boolValue(String key, boolean defaultValue) {
+        String value = values.getProperty(key);
+        return value == null ? defaultValue : Boolean.parseBoolean(value.trim());
+    }
+
+    private static AuthType parseAuthType(String value) {
+        try {
+            return AuthType.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            log.warn("⚠️ Unknown authType '" + value + "', using FORM");
+            return AuthType.FORM;
+        }
+    }
+
+    /**
+     * @return Copy of the merged key/value pairs for helpers that take Properties
+     */
+    public Properties asProperties() {
+        Properties copy = new Properties();
+        copy.putAll(values);
+        return copy;
+    }
+
+    /**
+     * Raw value lookup for keys without a typed getter
+     */
+    public String get(String key, String defaultValue) {
+        return values.getProperty(key, defaultValue);
+    }
+
+    public String getUrl() { return url; }
+    public String getBrowser() { return browser; }
+    public String getUsername() { return username; }
+    public String getPassword() { return password; }
+    public AuthType getAuthType() { return authType; }
+    public Duration getDefaultWait() { return defaultWait; }
+    public Duration getPageReadyTimeout() { return pageReadyTimeout; }
+    public Duration getProbeBudget() { return probeBudget; }
+    public boolean isSessionPool() { return sessionPool; }
+    public boolean isPrelaunch() { return prelaunch; }
+    public boolean isAuthStateCache() { return authStateCache; }
+    public boolean isDevAttach() { return devAttach; }
+    public boolean isContextIsolation() { return contextIsolation; }
+    public SessionFixture.Scope getFixtureScope() { return fixtureScope; }
+}
@@ -0,0 +1,211 @@
+package Base;
+
+import java.io.File;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+/**
+ * GridManager - Selenium Grid execution mode
+ *
+ * With executionMode=grid, DriverFactory creates RemoteWebDriver sessions against gridUrl
+ * instead of local EdgeDriver/ChromeDriver/FirefoxDriver processes. When gridAutoStart=true
+ * and nothing answers on gridUrl, a local standalone Grid is started from gridServerJar
+ * (selenium-server-*.jar) with gridMaxSessions slots and stopped when the JVM exits.
+ *
+ * Settings:
+ *   executionMode    - local | grid (default local)
+ *   gridUrl          - Grid endpoint (default http://localhost:4444)
+ *   gridAutoStart    - start a local standalone Grid if none is running (default false)
+ *   gridServerJar    - path to selenium-server jar used by gridAutoStart
+ *   gridMaxSessions  - slots of the auto-started Grid (default: number of cores)
+ */
+public final class GridManager {
+
+    private static final Logger log = LogManager.getLogger(GridManager.class);
+    private static final Json JSON = new Json();
+
+    private static Process standalone;
+    private static volatile int slotCount = -1;
+    // Set once the Grid was seen ready, so sessions skip the /status round trip and the lock
+    private static volatile boolean started;
+
+    private GridManager() {
+    }
+
+    /**
+     * @return true when executionMode=grid
+     */
+    public static boolean isEnabled(Properties config) {
+        return config != null && "grid".equalsIgnoreCase(config.getProperty("executionMode", "local").trim());
+    }
+
+    public static String getGridUrl(Properties config) {
+        return config.getProperty("gridUrl", "http://localhost:4444").trim();
+    }
+
+    /**
+     * Creates a Grid session; Augmenter adds CDP support for Chromium nodes
+     */
+    public static WebDriver createRemoteDriver(Properties config, Capabilities options) {
+        ensureStarted(config);
+        try {
+            RemoteWebDriver remote = new RemoteWebDriver(new URL(getGridUrl(config)), options);
+            return new Augmenter().augment(remote);
+        } catch (java.net.MalformedURLException e) {
+            throw new IllegalArgumentException("Invalid gridUrl: " + getGridUrl(config), e);
+        }
+    }
+
+    /**
+     * Starts a local standalone Grid if gridAutoStart=true and the Grid is not reachable;
+     * checked once per JVM
+     */
+    public static void ensureStarted(Properties config) {
+        if (started) return;
+        synchronized (GridManager.class) {
+            if (started) return;
+            startIfNeeded(config);
+            started = true;
+        }
+    }
+
+    private static void startIfNeeded(Properties config) {
+        if (isReady(config)) return;
+        if (!Boolean.parseBoolean(config.getProperty("gridAutoStart", "false").trim())) {
+            throw new IllegalStateException("Selenium Grid not reachable at " + getGridUrl(config)
+                + " (set gridAutoStart=true and gridServerJar to start one locally)");
+        }
+        if (standalone != null && standalone.isAlive()) {
+            waitUntilReady(config);
+            return;
+        }
+
+        String jar = config.getProperty("gridServerJar", "").trim();
+        if (jar.isEmpty() || !new File(jar).isFile()) {
+            throw new IllegalStateException("gridServerJar not found: '" + jar + "'");
+        }
+        URL url;
+        try {
+            url = new URL(getGridUrl(config));
+        } catch (java.net.MalformedURLException e) {
+            throw new IllegalArgumentException("Invalid gridUrl: " + getGridUrl(config), e);
+        }
+        int port = url.getPort() > 0 ? url.getPort() : 4444;
+        String maxSessions = config.getProperty("gridMaxSessions",
+            String.valueOf(Runtime.getRuntime().availableProcessors())).trim();
+
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.add("-jar");
+        command.add(jar);
+        command.add("standalone");
+        command.add("--port");
+        command.add(String.valueOf(port));
+        command.add("--max-sessions");
+        command.add(maxSessions);
+        command.add("--override-max-sessions");
+        command.add("true");
+        command.add("--session-timeout");
+        command.add("600");
+
+        try {
+            File logFile = new File("target", "selenium-grid.log");
+            logFile.getParentFile().mkdirs();
+            standalone = new ProcessBuilder(command).redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.appendTo(logFile)).start();
+            Runtime.getRuntime().addShutdownHook(new Thread(GridManager::stop, "selenium-grid-stop"));
+            log.info("Starting local Selenium Grid on port " + port + " with " + maxSessions + " slots");
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not start Selenium Grid: " + e.getMessage(), e);
+        }
+        waitUntilReady(config);
+    }
+
+    private static void waitUntilReady(Properties config) {
+        long deadline = System.currentTimeMillis() + 60_000;
+        while (System.currentTimeMillis() < deadline) {
+            if (isReady(config)) {
+                log.info("✅ Selenium Grid ready at " + getGridUrl(config) + " (" + getSlotCount(config) + " slots)");
+                return;
+            }
+            try {
+                Thread.sleep(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        throw new IllegalStateException("Selenium Grid did not become ready at " + getGridUrl(config));
+    }
+
+    public static synchronized void stop() {
+        started = false;
+        if (standalone != null && standalone.isAlive()) {
+            standalone.destroy();
+            log.info("Local Selenium Grid stopped");
+        }
+        standalone = null;
+    }
+
+    /**
+     * @return true if /status reports the Grid as ready
+     */
+    public static boolean isReady(Properties config) {
+        Map<String, Object> value = status(config);
+        return value != null && Boolean.TRUE.equals(value.get("ready"));
+    }
+
+    /**
+     * Total session slots across all Grid nodes (cached after the first successful read)
+     */
+    @SuppressWarnings("unchecked")
+    public static int getSlotCount(Properties config) {
+        if (slotCount > 0) return slotCount;
+        Map<String, Object> value = status(config);
+        if (value == null) return 0;
+        int slots = 0;
+        Object nodes = value.get("nodes");
+        if (nodes instanceof List) {
+            for (Object node : (List<Object>) nodes) {
+                Object nodeSlots = ((Map<String, Object>) node).get("slots");
+                if (nodeSlots instanceof List) slots += ((List<Object>) nodeSlots).size();
+            }
+        }
+        if (slots > 0) slotCount = slots;
+        return slots;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> status(Properties config) {
+        HttpURLConnection conn = null;
+        try {
+            conn = (HttpURLConnection) new URL(getGridUrl(config) + "/status").openConnection();
+            conn.setConnectTimeout(1000);
+            conn.setReadTimeout(3000);
+            if (conn.getResponseCode() != 200) return null;
+            try (InputStream in = conn.getInputStream()) {
+                String body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                Map<String, Object> json = JSON.toType(body, Json.MAP_TYPE);
+                return (Map<String, Object>) json.get("value");
+            }
+        } catch (Exception e) {
+            return null;
+        } finally {
+            if (conn != null) conn.disconnect();
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package Base;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * HostCapacity - Caps concurrent local browser sessions and measures what each one costs
+ *
+ * With maxSessionsPerHost set, DriverFactory takes a slot before launching a local browser and
+ * gives it back on quit; a launch beyond the cap waits for a free slot. "auto" derives the cap
+ * from the memory available at startup and the number of cores. ShardPlanner also lowers the
+ * TestNG thread count to the cap so worker threads do not queue for browsers.
+ * When a cap is set or sessionDensityReport=true, a sampler sums the resident memory of every
+ * driver and browser process under this JVM every 2 s (Linux /proc), so the suite can report MB
+ * per session and how many sessions fit per GB. Grid sessions are not counted; the Grid has its
+ * own slots.
+ *
+ * Settings:
+ *   maxSessionsPerHost     - 0 (no cap) | auto | fixed number (default 0)
+ *   sessionMemoryMB        - memory budget per session for auto (default 500)
+ *   sessionsPerCore        - sessions per CPU core for auto (default 1.0)
+ *   hostReserveMB          - memory left to the OS and JVM for auto (default 1024)
+ *   sessionSlotWaitSeconds - how long a launch waits for a free slot (default 300)
+ *   sessionDensityReport   - sample memory per session without a cap (default false)
+ */
+public final class HostCapacity {
+
+    private static final Logger log = LogManager.getLogger(HostCapacity.class);
+    private static volatile HostCapacity instance;
+
+    private final int maxSessions;
+    private final String capSource;
+    private final Semaphore slots;
+    private final long slotWaitMillis;
+    private final Map<WebDriver, Boolean> holders = new ConcurrentHashMap<>();
+    private final ThreadLocal<Boolean> pendingSlot = new ThreadLocal<>();
+
+    // ✅ Metrics
+    private final AtomicInteger waits = new AtomicInteger();
+    private final AtomicLong waitNanos = new AtomicLong();
+    private final AtomicLong peakRssKb = new AtomicLong();
+    private final AtomicInteger peakSessions = new AtomicInteger();
+    private final AtomicLong sampledRssKb = new AtomicLong();
+    private final AtomicLong sampledSessions = new AtomicLong();
+
+    private HostCapacity(Properties config) {
+        String value = config.getProperty("maxSessionsPerHost", "0").trim();
+        long availableMb = availableMemoryMb();
+        int cores = Runtime.getRuntime().availableProcessors();
+        if ("auto".equalsIgnoreCase(value)) {
+            long sessionMb = Long.parseLong(config.getProperty("sessionMemoryMB", "500").trim());
+            long reserveMb = Long.parseLong(config.getProperty("hostReserveMB", "1024").trim());
+            double perCore = Double.parseDouble(config.getProperty("sessionsPerCore", "1.0").trim());
+            int byMemory = availableMb < 0 ? Integer.MAX_VALUE : (int) ((availableMb - reserveMb) / sessionMb);
+            int byCpu = (int) Math.floor(cores * perCore);
+            this.maxSessions = Math.max(1, Math.min(byMemory, byCpu));
+            this.capSource = "auto: " + (availableMb < 0 ? "memory unknown" : availableMb + " MB available")
+                + ", " + cores + " cores";
+        } else {
+            this.maxSessions = Math.max(0, Integer.parseInt(value));
+            this.capSource = "configured";
+        }
+        this.slots = maxSessions > 0 ? new Semaphore(maxSessions, true) : null;
+        this.slotWaitMillis = 1000L * Long.parseLong(config.getProperty("sessionSlotWaitSeconds", "300").trim());
+        if ((maxSessions > 0 || Boolean.parseBoolean(config.getProperty("sessionDensityReport", "false").trim()))
+            && Files.isDirectory(Paths.get("/proc"))) {
+            startSampler();
+        }
+    }
+
+    public static HostCapacity getInstance(Properties config) {
+        if (instance == null) {
+            synchronized (HostCapacity.class) {
+                if (instance == null) {
+                    instance = new HostCapacity(config);
+                    if (instance.maxSessions > 0) {
+                        log.info("Host session cap: " + instance.maxSessions + " (" + instance.capSource + ")");
+                    }
+                }
+            }
+        }
+        return instance;
+    }
+
+    public static HostCapacity getInstanceIfCreated() {
+        return instance;
+    }
+
+    /**
+     * @return the per-host cap, or 0 if sessions are not capped
+     */
+    public int getMaxSessions() {
+        return maxSessions;
+    }
+
+    /**
+     * Takes a slot for the session about to be launched on this thread; waits while the host is full
+     * @throws SessionNotCreatedException if no slot frees up within sessionSlotWaitSeconds
+     */
+    void acquire() {
+        if (slots == null) return;
+        if (!slots.tryAcquire()) {
+            long start = System.nanoTime();
+            log.info("⏳ Host at its cap of " + maxSessions + " sessions, waiting for a free slot");
+            boolean acquired;
+            try {
+                acquired = slots.tryAcquire(slotWaitMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                acquired = false;
+            }
+            waits.incrementAndGet();
+            waitNanos.addAndGet(System.nanoTime() - start);
+            if (!acquired) {
+                throw new SessionNotCreatedException("No free session slot on this host (maxSessionsPerHost="
+                    + maxSessions + ") within " + slotWaitMillis / 1000 + " s");
+            }
+        }
+        pendingSlot.set(Boolean.TRUE);
+    }
+
+    /**
+     * Hands the slot taken by acquire() on this thread to the launched session
+     */
+    void bind(WebDriver driver) {
+        if (pendingSlot.get() == null) return;
+        pendingSlot.remove();
+        holders.put(driver, Boolean.TRUE);
+    }
+
+    /**
+     * Returns the slot of a quit session, or the pending slot of a launch that failed (driver null)
+     */
+    void release(WebDriver driver) {
+        if (slots == null) return;
+        if (driver == null) {
+            if (pendingSlot.get() != null) {
+                pendingSlot.remove();
+                slots.release();
+            }
+        } else if (holders.remove(driver) != null) {
+            slots.release();
+        }
+    }
+
+    // =====================
+    // Memory sampling
+    // =====================
+
+    private void startSampler() {
+        Thread sampler = new Thread(() -> {
+            while (true) {
+                sample();
+                try {
+                    Thread.sleep(2000);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }, "host-capacity-sampler");
+        sampler.setDaemon(true);
+        sampler.start();
+    }
+
+    private void sample() {
+        int sessions = SessionRegistry.getLiveCount();
+        if (sessions == 0) return;
+        long rss = ProcessHandle.current().descendants()
+            .mapToLong(p -> rssKb(p.pid()))
+            .filter(kb -> kb >= 0)
+            .sum();
+        if (rss <= 0) return;
+        sampledRssKb.addAndGet(rss);
+        sampledSessions.addAndGet(sessions);
+        peakRssKb.accumulateAndGet(rss, Math::max);
+        peakSessions.accumulateAndGet(sessions, Math::max);
+    }
+
+    private static long rssKb(long pid) {
+        Path status = Paths.get("/proc", String.valueOf(pid), "status");
+        try {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", ""));
+                }
+            }
+        } catch (IOException | NumberFormatException ignored) {}
+        return -1;
+    }
+
+    /**
+     * MemAvailable from /proc/meminfo, else the JVM's view of free physical memory
+     * @return available memory in MB, or -1 if unknown
+     */
+    static long availableMemoryMb() {
+        try {
+            for (String line : Files.readAllLines(Paths.get("/proc/meminfo"))) {
+                if (line.startsWith("MemAvailable:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", "")) / 1024;
+                }
+            }
+        } catch (IOException | NumberFormatException ignored) {}
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean) {
+            return ((com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean())
+                .getFreeMemorySize() / (1024 * 1024);
+        }
+        return -1;
+    }
+
+    /**
+     * @return average resident MB per live session over the run, or -1 if nothing was sampled
+     */
+    public double getMbPerSession() {
+        long sessions = sampledSessions.get();
+        return sessions == 0 ? -1 : sampledRssKb.get() / 1024.0 / sessions;
+    }
+
+    public String getMetricsSummary() {
+        double perSession = getMbPerSession();
+        String density = perSession <= 0 ? "memory per session n/a (not sampled)"
+            : String.format("avg %.0f MB/session -> %.1f sessions/GB, peak RSS %d MB at %d sessions",
+                perSession, 1024 / perSession, peakRssKb.get() / 1024, peakSessions.get());
+        int waited = waits.get();
+        return String.format("Host capacity: cap=%s, %s, slot waits=%d (avg %.0f ms)",
+            maxSessions > 0 ? maxSessions + " (" + capSource + ")" : "none", density,
+            waited, waited == 0 ? 0 : waitNanos.get() / 1_000_000.0 / waited);
+    }
+}
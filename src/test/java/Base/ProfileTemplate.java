@@ -0,0 +1,289 @@
+package Base;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * ProfileTemplate - Primed HTTP cache for new Chrome/Edge profiles
+ *
+ * Every throw-away profile starts with the disk cache (and V8 code cache) of a template, so the
+ * app's JS/CSS bundles come from disk instead of the network on first paint. The template is
+ * kept per app build under profileTemplateDir/&lt;buildKey&gt;. The build key is a hash of the
+ * bundle URLs in the app's index page; the bundles have content-hashed names, so a new deploy
+ * gives a new key and the old template is no longer used. appBuildId overrides the key (e.g. from CI).
+ * There is no separate priming run: when no template exists for the current build, the cache
+ * of the first session that quits cleanly becomes the template. Only cache directories are
+ * copied, never cookies or storage, so a template holds no login.
+ * Clones use copy-on-write (cp --reflink) where the file system supports it, else a plain copy.
+ *
+ * Settings:
+ *   profileTemplate            - true | false (default false)
+ *   profileTemplateDir         - where templates are kept (default profile-template)
+ *   profileTemplateMaxAgeHours - age limit when the build key is unknown (default 24)
+ *   appBuildId                 - explicit build key, skips probing the index page
+ */
+public final class ProfileTemplate {
+
+    private static final Logger log = LogManager.getLogger(ProfileTemplate.class);
+    private static volatile ProfileTemplate instance;
+
+    // Profile-relative cache directories of Chromium; everything else (cookies, storage) stays out
+    private static final List<String> CACHE_DIRS = Arrays.asList(
+        "Default/Cache", "Default/Code Cache", "Default/GPUCache");
+    private static final Pattern ASSET = Pattern.compile("(?:src|href)=[\"']([^\"']+\\.(?:js|css))(?:\\?[^\"']*)?[\"']");
+    private static final String MARKER = "template.complete";
+    private static final long MIN_HARVEST_BYTES = 512 * 1024;
+
+    private final Path root;
+    private final String buildKey;
+    private final long maxAgeMillis;
+    private final Set<Path> eligible = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean harvesting = new AtomicBoolean();
+    private volatile boolean reflink = isLinux();
+
+    // ✅ Metrics
+    private final AtomicInteger clones = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+    private final AtomicLong cloneNanos = new AtomicLong();
+
+    private ProfileTemplate(Properties config) {
+        this.root = Paths.get(config.getProperty("profileTemplateDir", "profile-template").trim()).toAbsolutePath();
+        this.maxAgeMillis = TimeUnit.HOURS.toMillis(
+            Long.parseLong(config.getProperty("profileTemplateMaxAgeHours", "24").trim()));
+        String explicit = config.getProperty("appBuildId", "").trim();
+        this.buildKey = explicit.isEmpty() ? probeBuildKey(config.getProperty("url", "").trim()) : explicit;
+    }
+
+    public static boolean isEnabled(Properties config) {
+        return config != null && Boolean.parseBoolean(config.getProperty("profileTemplate", "false").trim());
+    }
+
+    public static ProfileTemplate getInstance(Properties config) {
+        if (instance == null) {
+            synchronized (ProfileTemplate.class) {
+                if (instance == null) {
+                    instance = new ProfileTemplate(config);
+                    log.info("Profile template enabled: build key " + (instance.buildKey == null
+                        ? "unknown (max age " + TimeUnit.MILLISECONDS.toHours(instance.maxAgeMillis) + " h)"
+                        : instance.buildKey));
+                }
+            }
+        }
+        return instance;
+    }
+
+    public static ProfileTemplate getInstanceIfCreated() {
+        return instance;
+    }
+
+    /**
+     * Copies the current build's cache into a new profile before the browser starts on it
+     * @param profile Empty throw-away user-data-dir
+     */
+    public void prepare(Path profile) {
+        eligible.add(profile);
+        Path template = currentTemplate();
+        if (template == null) {
+            misses.incrementAndGet();
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            for (String dir : CACHE_DIRS) {
+                Path source = template.resolve(dir);
+                if (Files.isDirectory(source)) {
+                    cloneTree(source, profile.resolve(dir));
+                }
+            }
+            clones.incrementAndGet();
+        } catch (IOException e) {
+            misses.incrementAndGet();
+            log.warn("⚠️ Could not clone profile template, starting with an empty cache: " + e.getMessage());
+        } finally {
+            cloneNanos.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Called after a clean quit: turns the session's cache into the template if the current build has none
+     */
+    public void harvest(Path profile) {
+        if (!eligible.remove(profile) || currentTemplate() != null || !harvesting.compareAndSet(false, true)) {
+            return;
+        }
+        String name = buildKey == null ? "unknown" : buildKey;
+        Path staging = root.resolve(name + ".tmp-" + ProcessHandle.current().pid());
+        try {
+            if (cacheBytes(profile) < MIN_HARVEST_BYTES) {
+                return; // session never loaded the app; try the next one
+            }
+            DriverFactory.deleteDir(staging);
+            for (String dir : CACHE_DIRS) {
+                Path source = profile.resolve(dir);
+                if (Files.isDirectory(source)) {
+                    copyTree(source, staging.resolve(dir));
+                }
+            }
+            Files.write(staging.resolve(MARKER), String.valueOf(System.currentTimeMillis()).getBytes(StandardCharsets.UTF_8));
+            removeTemplates();
+            Files.move(staging, root.resolve(name), StandardCopyOption.ATOMIC_MOVE);
+            log.info("✅ Profile template saved for build " + name + " (" + cacheBytes(root.resolve(name)) / 1024 + " KB)");
+        } catch (IOException e) {
+            DriverFactory.deleteDir(staging);
+            log.warn("⚠️ Could not save profile template: " + e.getMessage());
+        } finally {
+            harvesting.set(false);
+        }
+    }
+
+    /**
+     * @return the template of the current build, or null if there is none or it is stale
+     */
+    private Path currentTemplate() {
+        Path template = root.resolve(buildKey == null ? "unknown" : buildKey);
+        Path marker = template.resolve(MARKER);
+        if (!Files.exists(marker)) return null;
+        if (buildKey == null) {
+            try {
+                if (System.currentTimeMillis() - Files.getLastModifiedTime(marker).toMillis() > maxAgeMillis) {
+                    return null;
+                }
+            } catch (IOException e) {
+                return null;
+            }
+        }
+        return template;
+    }
+
+    /**
+     * Deletes the templates of earlier builds (and the aged one for an unknown build)
+     */
+    private void removeTemplates() throws IOException {
+        if (!Files.isDirectory(root)) {
+            Files.createDirectories(root);
+            return;
+        }
+        try (Stream<Path> dirs = Files.list(root)) {
+            dirs.filter(p -> !p.getFileName().toString().contains(".tmp-")).forEach(DriverFactory::deleteDir);
+        }
+    }
+
+    /**
+     * Hash of the bundle URLs referenced by the app's index page
+     * @return build key, or null if the page could not be read or references no bundles
+     */
+    static String probeBuildKey(String url) {
+        if (url.isEmpty()) return null;
+        HttpURLConnection conn = null;
+        try {
+            conn = (HttpURLConnection) new URL(url).openConnection();
+            conn.setConnectTimeout(3000);
+            conn.setReadTimeout(5000);
+            String html;
+            try (InputStream in = conn.getInputStream()) {
+                html = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            Set<String> assets = new TreeSet<>();
+            Matcher m = ASSET.matcher(html);
+            while (m.find()) assets.add(m.group(1));
+            if (assets.isEmpty()) return null;
+
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(String.join("\n", assets).getBytes(StandardCharsets.UTF_8));
+            StringBuilder key = new StringBuilder();
+            for (int i = 0; i < 8; i++) key.append(String.format("%02x", digest[i]));
+            return key.toString();
+        } catch (Exception e) {
+            log.warn("⚠️ Could not read app build from " + url + ": " + e.getMessage());
+            return null;
+        } finally {
+            if (conn != null) conn.disconnect();
+        }
+    }
+
+    private void cloneTree(Path source, Path target) throws IOException {
+        if (reflink) {
+            Files.createDirectories(target.getParent());
+            try {
+                Process cp = new ProcessBuilder("cp", "-a", "--reflink=always", source.toString(), target.toString())
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+                if (cp.waitFor(30, TimeUnit.SECONDS) && cp.exitValue() == 0) return;
+                cp.destroyForcibly();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            // File system without copy-on-write: plain copies from now on
+            reflink = false;
+            DriverFactory.deleteDir(target);
+        }
+        copyTree(source, target);
+    }
+
+    private static void copyTree(Path source, Path target) throws IOException {
+        Files.walkFileTree(source, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                Files.createDirectories(target.resolve(source.relativize(dir).toString()));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Files.copy(file, target.resolve(source.relativize(file).toString()), StandardCopyOption.REPLACE_EXISTING);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private static long cacheBytes(Path profile) {
+        long total = 0;
+        for (String dir : CACHE_DIRS) {
+            Path path = profile.resolve(dir);
+            if (!Files.isDirectory(path)) continue;
+            try (Stream<Path> files = Files.walk(path)) {
+                total += files.filter(Files::isRegularFile).mapToLong(p -> p.toFile().length()).sum();
+            } catch (IOException ignored) {}
+        }
+        return total;
+    }
+
+    private static boolean isLinux() {
+        return System.getProperty("os.name", "").toLowerCase().contains("linux");
+    }
+
+    public String getMetricsSummary() {
+        int count = clones.get();
+        return String.format("Profile template: build=%s, primed profiles=%d, empty-cache profiles=%d, avg clone=%.0f ms",
+            buildKey == null ? "unknown" : buildKey, count, misses.get(),
+            count == 0 ? 0 : cloneNanos.get() / 1_000_000.0 / count);
+    }
+}
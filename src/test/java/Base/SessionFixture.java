@@ -0,0 +1,232 @@
+package Base;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import Actions.SessionResetService;
+import Utils.AuthStateCache;
+
+/**
+ * SessionFixture - Shares one logged-in browser between tests of the same scope
+ *
+ * fixtureScope decides how long a browser and its login live:
+ *   method - new browser and login per @Test (default, previous behaviour)
+ *   class  - one per test class and worker thread, quit in @AfterClass
+ *   worker - one per worker thread, quit at the end of the suite
+ *   suite  - one for the whole suite; tests using it run one at a time
+ * Between tests the shared session is brought back to the landing page by SessionResetService
+ * and checked for a live login, so setUp only logs in again if the app signed the user out.
+ *
+ * Settings:
+ *   fixtureScope  - method | class | worker | suite (default method)
+ *   landingUrl    - page a reused session returns to between tests, e.g. the Initiative list (default url)
+ *   resetKeepStoragePattern - sessionStorage keys kept on reset (default: msal/token/auth/... keys)
+ */
+public final class SessionFixture {
+
+    private static final Logger log = LogManager.getLogger(SessionFixture.class);
+    private static volatile SessionFixture instance;
+
+    public enum Scope {
+        METHOD, CLASS, WORKER, SUITE;
+
+        public static Scope fromConfig(Properties config) {
+            String value = config.getProperty("fixtureScope", "method").trim().toUpperCase();
+            try {
+                return valueOf(value);
+            } catch (IllegalArgumentException e) {
+                log.warn("⚠️ Unknown fixtureScope '" + value + "', using METHOD");
+                return METHOD;
+            }
+        }
+    }
+
+    /**
+     * Session handed to setUp; loggedIn=true means the shared login is still valid
+     */
+    public static final class Lease {
+        public final WebDriver driver;
+        public final boolean loggedIn;
+
+        Lease(WebDriver driver, boolean loggedIn) {
+            this.driver = driver;
+            this.loggedIn = loggedIn;
+        }
+    }
+
+    private static final class Shared {
+        final WebDriver driver;
+        final Class<?> testClass;
+        int uses;
+
+        Shared(WebDriver driver, Class<?> testClass) {
+            this.driver = driver;
+            this.testClass = testClass;
+        }
+    }
+
+    private final Properties config;
+    private final Scope scope;
+    private final SessionResetService resetService;
+    private final Map<String, Shared> sessions = new ConcurrentHashMap<>();
+    private final Semaphore suiteTurn = new Semaphore(1, true);
+    private final ThreadLocal<Boolean> holdsSuiteTurn = new ThreadLocal<>();
+
+    private SessionFixture(Properties config) {
+        this.config = config;
+        this.scope = Scope.fromConfig(config);
+        String landing = config.getProperty("landingUrl", "").trim();
+        this.resetService = new SessionResetService(
+            landing.isEmpty() ? config.getProperty("url", "URLInconfig").trim() : landing,
+            Duration.ofSeconds(Long.parseLong(config.getProperty("pageReadyTimeout", "30").trim())),
+            config.getProperty("resetKeepStoragePattern"));
+    }
+
+    /**
+     * @return true when fixtureScope is class, worker or suite
+     */
+    public static boolean isEnabled(Properties config) {
+        return config != null && Scope.fromConfig(config) != Scope.METHOD;
+    }
+
+    public static SessionFixture getInstance(Properties config) {
+        if (instance == null) {
+            synchronized (SessionFixture.class) {
+                if (instance == null) {
+                    instance = new SessionFixture(config);
+                    log.info("Fixture scope: " + instance.scope + " (browser and login shared within the scope)");
+                }
+            }
+        }
+        return instance;
+    }
+
+    public static SessionFixture getInstanceIfCreated() {
+        return instance;
+    }
+
+    private String key(Class<?> testClass) {
+        switch (scope) {
+            case CLASS:  return testClass.getName() + "@" + Thread.currentThread().getId();
+            case WORKER: return "worker@" + Thread.currentThread().getId();
+            default:     return "suite";
+        }
+    }
+
+    /**
+     * Returns the scope's session, reset to the landing page, or a new browser if there is none
+     */
+    public Lease acquire(Class<?> testClass) {
+        if (scope == Scope.SUITE) {
+            suiteTurn.acquireUninterruptibly();
+            holdsSuiteTurn.set(Boolean.TRUE);
+        }
+        String key = key(testClass);
+        Shared shared = sessions.get(key);
+        if (shared != null) {
+            Boolean signedIn = resetToLanding(shared.driver);
+            if (signedIn != null) {
+                shared.uses++;
+                log.info("♻️ Reusing " + scope + "-scoped session (test " + shared.uses + ", "
+                    + (signedIn ? "still logged in" : "login required") + ")");
+                return new Lease(shared.driver, signedIn);
+            }
+            sessions.remove(key);
+            quitQuietly(shared.driver);
+        }
+
+        WebDriver driver;
+        try {
+            driver = DriverFactory.createDriver(config);
+        } catch (RuntimeException e) {
+            release(null, true);
+            throw e;
+        }
+        shared = new Shared(driver, testClass);
+        shared.uses = 1;
+        sessions.put(key, shared);
+        return new Lease(shared.driver, false);
+    }
+
+    /**
+     * Ends a test's use of the session; a broken session is quit so the next test starts fresh
+     */
+    public void release(WebDriver driver, boolean sessionBroken) {
+        try {
+            if (driver == null) return; // still gives up the suite turn
+            Shared owner = null;
+            for (Map.Entry<String, Shared> e : sessions.entrySet()) {
+                if (e.getValue().driver == driver) {
+                    owner = e.getValue();
+                    if (sessionBroken) sessions.remove(e.getKey());
+                    break;
+                }
+            }
+            if (owner == null || sessionBroken) {
+                quitQuietly(driver);
+            }
+        } finally {
+            if (Boolean.TRUE.equals(holdsSuiteTurn.get())) {
+                holdsSuiteTurn.remove();
+                suiteTurn.release();
+            }
+        }
+    }
+
+    /**
+     * Quits the class-scoped sessions of a test class (from @AfterClass)
+     */
+    public void closeClass(Class<?> testClass) {
+        if (scope != Scope.CLASS) return;
+        for (Map.Entry<String, Shared> e : sessions.entrySet()) {
+            if (e.getValue().testClass == testClass && sessions.remove(e.getKey(), e.getValue())) {
+                quitQuietly(e.getValue().driver);
+            }
+        }
+    }
+
+    /**
+     * Brings a reused session back to the landing page
+     * @return true if still logged in, false if a login is needed, null if the session is unusable
+     */
+    private Boolean resetToLanding(WebDriver driver) {
+        if (!resetService.reset(driver)) {
+            log.warn("⚠️ Reset of shared session failed, launching a new one");
+            return null;
+        }
+        try {
+            return AuthStateCache.probeSignedIn(driver, Duration.ofSeconds(10));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private void quitQuietly(WebDriver driver) {
+        try {
+            DriverFactory.quit(driver);
+        } catch (Exception e) {
+            log.warn("⚠️ Error while quitting shared session: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Quits every shared session
+     */
+    public synchronized void shutdown() {
+        if (resetService.getResetCount() > 0) {
+            log.info(resetService.getMetricsSummary());
+        }
+        for (String key : new ArrayList<>(sessions.keySet())) {
+            Shared shared = sessions.remove(key);
+            if (shared != null) quitQuietly(shared.driver);
+        }
+    }
+}
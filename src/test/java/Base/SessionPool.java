@@ -0,0 +1,272 @@
+package Base;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+
+import Actions.SessionResetService;
+
+/**
+ * SessionPool - Keeps warm browser sessions and leases them to @Test methods
+ *
+ * Enabled with sessionPool=true in config.properties. Instead of launching and maximizing a
+ * browser for every test, BaseTest leases an idle session and hands it back in tearDown.
+ * Returned sessions are reset (alerts dismissed, extra windows closed, cookies and storage
+ * cleared, blank page)
+ * and recycled after sessionPoolMaxUses leases or as soon as they look crashed.
+ *
+ * Settings:
+ *   sessionPool         - true | false (default false)
+ *   sessionPoolSize     - idle sessions kept warm (default 2)
+ *   sessionPoolMaxUses  - leases before a session is quit and replaced (default 20)
+ */
+public final class SessionPool {
+
+    private static final Logger log = LogManager.getLogger(SessionPool.class);
+    private static volatile SessionPool instance;
+
+    private final Properties config;
+    private final int maxIdle;
+    private final int maxUses;
+    private final LinkedBlockingDeque<PooledSession> idle = new LinkedBlockingDeque<>();
+    private final Map<WebDriver, PooledSession> leased = new ConcurrentHashMap<>();
+
+    // ✅ Metrics
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+    private final AtomicInteger recycled = new AtomicInteger();
+    private final AtomicInteger crashed = new AtomicInteger();
+    private final AtomicInteger resets = new AtomicInteger();
+    private final AtomicLong resetNanos = new AtomicLong();
+    private final AtomicLong maxResetNanos = new AtomicLong();
+
+    private static final class PooledSession {
+        final WebDriver driver;
+        int uses;
+
+        PooledSession(WebDriver driver) {
+            this.driver = driver;
+        }
+    }
+
+    private SessionPool(Properties config) {
+        this.config = config;
+        this.maxIdle = Integer.parseInt(config.getProperty("sessionPoolSize", "2").trim());
+        this.maxUses = Integer.parseInt(config.getProperty("sessionPoolMaxUses", "20").trim());
+    }
+
+    /**
+     * @return true when sessionPool=true in config
+     */
+    public static boolean isEnabled(Properties config) {
+        return config != null && Boolean.parseBoolean(config.getProperty("sessionPool", "false").trim());
+    }
+
+    public static SessionPool getInstance(Properties config) {
+        if (instance == null) {
+            synchronized (SessionPool.class) {
+                if (instance == null) {
+                    instance = new SessionPool(config);
+                    log.info("Session pool enabled: size=" + instance.maxIdle + ", maxUses=" + instance.maxUses);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * @return Pool instance if one was created, otherwise null
+     */
+    public static SessionPool getInstanceIfCreated() {
+        return instance;
+    }
+
+    /**
+     * Leases a warm session if one is idle and alive, otherwise launches a new browser
+     */
+    public WebDriver lease() {
+        PooledSession session;
+        while ((session = idle.pollFirst()) != null) {
+            if (isAlive(session.driver)) {
+                hits.incrementAndGet();
+                session.uses++;
+                leased.put(session.driver, session);
+                log.info("♻️ Pool hit - reusing session (use " + session.uses + "/" + maxUses + ")");
+                return session.driver;
+            }
+            crashed.incrementAndGet();
+            quitQuietly(session.driver);
+        }
+
+        misses.incrementAndGet();
+        session = new PooledSession(DriverFactory.createDriver(config));
+        session.uses = 1;
+        leased.put(session.driver, session);
+        log.info("Pool miss - launched new session");
+        return session.driver;
+    }
+
+    /**
+     * Returns a leased session to the pool
+     * @param driver Session obtained from lease()
+     * @param sessionBroken true if the test left the session unusable (crash, lost session)
+     */
+    public void release(WebDriver driver, boolean sessionBroken) {
+        if (driver == null) return;
+        PooledSession session = leased.remove(driver);
+        if (session == null) {
+            // Not ours - behave like the non-pooled path
+            quitQuietly(driver);
+            return;
+        }
+
+        if (sessionBroken) {
+            crashed.incrementAndGet();
+            quitQuietly(driver);
+            return;
+        }
+        if (session.uses >= maxUses) {
+            recycled.incrementAndGet();
+            log.info("Recycling session after " + session.uses + " uses");
+            quitQuietly(driver);
+            return;
+        }
+        if (!reset(driver)) {
+            crashed.incrementAndGet();
+            quitQuietly(driver);
+            return;
+        }
+        if (idle.size() >= maxIdle || !idle.offerFirst(session)) {
+            quitQuietly(driver);
+        }
+    }
+
+    /**
+     * Brings a session back to a neutral state: one window, no cookies or web storage, blank page
+     * @return false if the session did not survive the reset
+     */
+    private boolean reset(WebDriver driver) {
+        long start = System.nanoTime();
+        try {
+            SessionResetService.dismissAlerts(driver);
+            SessionResetService.closeExtraWindows(driver);
+            driver.switchTo().defaultContent();
+
+            try {
+                ((JavascriptExecutor) driver).executeScript(
+                    "try{window.localStorage.clear();}catch(e){} try{window.sessionStorage.clear();}catch(e){}");
+            } catch (Exception ignored) {}
+            driver.manage().deleteAllCookies();
+
+            // Chromium can also drop cookies of other domains (e.g. the SSO provider)
+            if (driver instanceof HasCdp) {
+                try {
+                    ((HasCdp) driver).executeCdpCommand("Network.clearBrowserCookies", new java.util.HashMap<>());
+                } catch (Exception ignored) {}
+            }
+
+            driver.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            log.warn("⚠️ Session reset failed, discarding session: " + e.getMessage());
+            return false;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            resets.incrementAndGet();
+            resetNanos.addAndGet(elapsed);
+            maxResetNanos.accumulateAndGet(elapsed, Math::max);
+        }
+    }
+
+    private boolean isAlive(WebDriver driver) {
+        try {
+            driver.getWindowHandles();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return true if the failure means the browser session itself is gone
+     */
+    public static boolean isSessionFatal(Throwable t) {
+        while (t != null) {
+            if (t instanceof NoSuchSessionException
+                    || t instanceof UnreachableBrowserException
+                    || t instanceof SessionNotCreatedException) {
+                return true;
+            }
+            String msg = t.getMessage();
+            if (msg != null && (msg.contains("invalid session id") || msg.contains("disconnected")
+                    || msg.contains("session deleted"))) {
+                return true;
+            }
+            t = t.getCause();
+        }
+        return false;
+    }
+
+    private void quitQuietly(WebDriver driver) {
+        try {
+            DriverFactory.quit(driver);
+        } catch (Exception e) {
+            log.warn("⚠️ Error while quitting pooled session: " + e.getMessage());
+        }
+    }
+
+    // =====================
+    // Metrics
+    // =====================
+    public int getHits() { return hits.get(); }
+    public int getMisses() { return misses.get(); }
+    public int getRecycled() { return recycled.get(); }
+    public int getCrashed() { return crashed.get(); }
+
+    public double getAverageResetMillis() {
+        int count = resets.get();
+        return count == 0 ? 0 : resetNanos.get() / 1_000_000.0 / count;
+    }
+
+    public double getMaxResetMillis() {
+        return maxResetNanos.get() / 1_000_000.0;
+    }
+
+    public String getMetricsSummary() {
+        int total = hits.get() + misses.get();
+        double hitRate = total == 0 ? 0 : hits.get() * 100.0 / total;
+        return String.format("Session pool: hits=%d, misses=%d (hit rate %.1f%%), recycled=%d, crashed=%d, "
+                + "resets=%d, avg reset=%.0f ms, max reset=%.0f ms",
+            hits.get(), misses.get(), hitRate, recycled.get(), crashed.get(),
+            resets.get(), getAverageResetMillis(), getMaxResetMillis());
+    }
+
+    /**
+     * Quits every idle and leased session and logs the pool metrics
+     */
+    public synchronized void shutdown() {
+        log.info(getMetricsSummary());
+        if (idle.isEmpty() && leased.isEmpty()) return;
+        PooledSession session;
+        while ((session = idle.pollFirst()) != null) {
+            quitQuietly(session.driver);
+        }
+        for (WebDriver driver : new ArrayList<>(leased.keySet())) {
+            leased.remove(driver);
+            quitQuietly(driver);
+        }
+    }
+}
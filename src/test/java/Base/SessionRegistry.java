@@ -0,0 +1,215 @@
+package Base;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.service.DriverService;
+
+/**
+ * SessionRegistry - Every live session of the run and the local process behind it
+ *
+ * DriverFactory registers each session it creates together with its process (the driver
+ * service, or only the browser when the service is shared) and unregisters it on quit.
+ * At the end of the suite, and from a shutdown hook when the JVM is stopped early, quitAll()
+ * quits all remaining sessions concurrently. A session that does not quit within
+ * sessionQuitTimeoutSeconds has its process tree killed, so no driver or browser outlives
+ * the run.
+ *
+ * Settings:
+ *   sessionQuitTimeoutSeconds  - graceful quit budget per session (default 10)
+ */
+public final class SessionRegistry {
+
+    private static final Logger log = LogManager.getLogger(SessionRegistry.class);
+
+    // Live session -> pid of its process tree (-1 if no local process is known, e.g. Grid)
+    private static final Map<WebDriver, Long> SESSIONS = new ConcurrentHashMap<>();
+    // Sessions already quit, so late quit calls (pool/fixture shutdown) become no-ops
+    private static final Set<WebDriver> ENDED = Collections.synchronizedSet(
+        Collections.newSetFromMap(new WeakHashMap<>()));
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(SessionRegistry::quitAll, "session-registry-shutdown"));
+    }
+
+    private SessionRegistry() {
+    }
+
+    /**
+     * Registers a session whose driver service was started for it. The pid is read from the
+     * service itself; if that fails, a driver child whose command line carries the service's
+     * --port is taken. When neither works (e.g. Windows hides command lines) the pid stays
+     * unknown: guessing could pick another thread's driver and kill another test's browser.
+     */
+    static void registerLocal(WebDriver driver, DriverService service) {
+        long pid = -1;
+        if (service != null) {
+            pid = servicePid(service);
+            if (pid <= 0) {
+                String portArg = "--port=" + service.getUrl().getPort();
+                pid = ProcessHandle.current().children()
+                    .filter(p -> p.info().commandLine().map(c -> c.contains(portArg)).orElse(false))
+                    .map(ProcessHandle::pid)
+                    .findFirst()
+                    .orElse(-1L);
+            }
+            if (pid <= 0) {
+                log.debug("Driver process of " + service.getUrl() + " not identified; it will not be force-killed");
+            }
+        }
+        SESSIONS.put(driver, pid);
+    }
+
+    /**
+     * DriverService.process (protected) -> ExternalProcess.process (private) -> pid
+     */
+    private static long servicePid(DriverService service) {
+        try {
+            Field external = DriverService.class.getDeclaredField("process");
+            external.setAccessible(true);
+            Object process = external.get(service);
+            if (process == null) return -1;
+            Field inner = process.getClass().getDeclaredField("process");
+            inner.setAccessible(true);
+            return ((Process) inner.get(process)).pid();
+        } catch (Exception | LinkageError e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Registers a session with a known process (browser pid for shared services, -1 for none)
+     */
+    static void registerProcess(WebDriver driver, long pid) {
+        SESSIONS.put(driver, pid);
+    }
+
+    /**
+     * @return true if the session was quit (or killed) already
+     */
+    static boolean hasEnded(WebDriver driver) {
+        return ENDED.contains(driver);
+    }
+
+    static void unregister(WebDriver driver) {
+        if (driver == null) return;
+        if (SESSIONS.remove(driver) != null) {
+            ENDED.add(driver);
+        }
+    }
+
+    public static int getLiveCount() {
+        return SESSIONS.size();
+    }
+
+    /**
+     * Kills the process tree behind a session
+     * @return false if no local process is known or it is already gone
+     */
+    static boolean killProcessTree(WebDriver driver) {
+        Long pid = SESSIONS.get(driver);
+        if (pid == null || pid <= 0) return false;
+        Optional<ProcessHandle> process = ProcessHandle.of(pid);
+        if (!process.isPresent()) {
+            log.warn("⚠️ Process " + pid + " no longer exists");
+            return false;
+        }
+        process.get().descendants().forEach(ProcessHandle::destroyForcibly);
+        process.get().destroyForcibly();
+        log.info("🟥 Killed process " + pid + " and its child processes");
+        return true;
+    }
+
+    /**
+     * Quits every live session in parallel; a session whose quit runs longer than
+     * sessionQuitTimeoutSeconds (counted from when its own quit started) is force-killed
+     */
+    public static void quitAll() {
+        List<WebDriver> drivers = new ArrayList<>(SESSIONS.keySet());
+        if (drivers.isEmpty()) return;
+
+        long timeoutMillis = 1000L * Long.parseLong(
+            FrameworkConfig.get().get("sessionQuitTimeoutSeconds", "10").trim());
+        long start = System.currentTimeMillis();
+        int threads = Math.min(drivers.size(), 16);
+        AtomicInteger counter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "session-quit-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        // When each quit actually began; queued quits get their full budget once a thread is free
+        AtomicLongArray begun = new AtomicLongArray(drivers.size());
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < drivers.size(); i++) {
+            int index = i;
+            WebDriver driver = drivers.get(i);
+            futures.add(executor.submit(() -> {
+                begun.set(index, System.currentTimeMillis());
+                DriverFactory.quit(driver);
+            }));
+        }
+
+        // Even if every batch of quits used its full budget, nothing waits longer than this
+        long batches = (drivers.size() + threads - 1) / threads;
+        long hardDeadline = start + (batches + 1) * timeoutMillis;
+        int killed = 0;
+        for (int i = 0; i < drivers.size(); i++) {
+            WebDriver driver = drivers.get(i);
+            try {
+                awaitQuit(futures.get(i), begun, i, timeoutMillis, hardDeadline);
+            } catch (TimeoutException e) {
+                futures.get(i).cancel(true);
+                if (killProcessTree(driver)) killed++;
+                unregister(driver);
+            } catch (Exception e) {
+                // quit failed (session already gone); make sure nothing is left running
+                if (SESSIONS.containsKey(driver)) {
+                    killProcessTree(driver);
+                    unregister(driver);
+                }
+            }
+        }
+        executor.shutdownNow();
+        log.info("Quit " + drivers.size() + " session(s) in parallel in " + (System.currentTimeMillis() - start)
+            + " ms" + (killed > 0 ? " (" + killed + " force-killed after " + timeoutMillis + " ms)" : ""));
+    }
+
+    /**
+     * Waits for one quit: while it is still queued, until it starts; then until its own deadline
+     */
+    private static void awaitQuit(Future<?> future, AtomicLongArray begun, int index, long timeoutMillis,
+            long hardDeadline) throws Exception {
+        while (true) {
+            long started = begun.get(index);
+            long now = System.currentTimeMillis();
+            long wait = started == 0
+                ? Math.min(200, hardDeadline - now)
+                : Math.min(started + timeoutMillis, hardDeadline) - now;
+            try {
+                future.get(Math.max(0, wait), TimeUnit.MILLISECONDS);
+                return;
+            } catch (TimeoutException e) {
+                if (started != 0 || System.currentTimeMillis() >= hardDeadline) throw e;
+            }
+        }
+    }
+}
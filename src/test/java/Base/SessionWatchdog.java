@@ -0,0 +1,193 @@
+package Base;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+/**
+ * SessionWatchdog - Detects and reaps browser sessions whose WebDriver command hangs
+ *
+ * Every driver from DriverFactory is wrapped so each command records when it started and
+ * when it completed. A background thread checks all sessions every few seconds;
+ * when a command has been in flight longer than sessionWatchdogSeconds, the watchdog
+ *   1. writes diagnostics (command, elapsed time, stack of the blocked thread) to
+ *      target/hung-sessions,
+ *   2. kills the driver process and its browser children (local sessions), or only the
+ *      browser when the driver service is shared, which makes the blocked command throw so
+ *      only that test fails,
+ *   3. interrupts the blocked thread if no local process could be found (Grid sessions).
+ * Killed sessions are reported as broken so the pool discards them and quit is skipped.
+ *
+ * Settings:
+ *   sessionWatchdog         - true | false (default true)
+ *   sessionWatchdogSeconds  - budget for a single command (default 180)
+ */
+public final class SessionWatchdog {
+
+    private static final Logger log = LogManager.getLogger(SessionWatchdog.class);
+    private static final Path DIAGNOSTICS_DIR = Paths.get(System.getProperty("user.dir"), "target", "hung-sessions");
+
+    private static final Map<WebDriver, Session> SESSIONS = new ConcurrentHashMap<>();
+    private static final AtomicInteger REAPED = new AtomicInteger();
+    private static volatile ScheduledExecutorService checker;
+    private static volatile long budgetNanos;
+
+    private SessionWatchdog() {
+    }
+
+    /**
+     * Command bookkeeping for one session
+     */
+    private static final class Session implements WebDriverListener {
+        volatile WebDriver driver;
+        volatile long inFlightSince;
+        volatile String inFlightCommand;
+        volatile Thread caller;
+        volatile boolean killed;
+
+        @Override
+        public void beforeAnyCall(Object target, Method method, Object[] args) {
+            caller = Thread.currentThread();
+            inFlightCommand = target.getClass().getSimpleName() + "." + method.getName();
+            inFlightSince = System.nanoTime();
+        }
+
+        @Override
+        public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+            completed();
+        }
+
+        @Override
+        public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+            completed();
+        }
+
+        private void completed() {
+            inFlightSince = 0;
+        }
+    }
+
+    /**
+     * @return true when sessionWatchdog is not switched off
+     */
+    public static boolean isEnabled(Properties config) {
+        return config != null && Boolean.parseBoolean(config.getProperty("sessionWatchdog", "true").trim());
+    }
+
+    /**
+     * Wraps a new driver so its commands are tracked; the process to kill comes from SessionRegistry
+     * @return Decorated driver to use instead of the original
+     */
+    public static WebDriver watch(WebDriver driver, Properties config) {
+        if (!isEnabled(config)) return driver;
+        startChecker(config);
+        Session session = new Session();
+        WebDriver decorated = new EventFiringDecorator<>(session).decorate(driver);
+        session.driver = decorated;
+        SESSIONS.put(decorated, session);
+        return decorated;
+    }
+
+    /**
+     * Stops tracking a session (after quit)
+     */
+    public static void unwatch(WebDriver driver) {
+        if (driver != null) SESSIONS.remove(driver);
+    }
+
+    /**
+     * @return true if the watchdog killed this session
+     */
+    public static boolean wasKilled(WebDriver driver) {
+        Session session = driver == null ? null : SESSIONS.get(driver);
+        return session != null && session.killed;
+    }
+
+    public static int getReapedCount() {
+        return REAPED.get();
+    }
+
+    private static synchronized void startChecker(Properties config) {
+        if (checker != null) return;
+        long seconds = Long.parseLong(config.getProperty("sessionWatchdogSeconds", "180").trim());
+        budgetNanos = TimeUnit.SECONDS.toNanos(seconds);
+        checker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "session-watchdog");
+            t.setDaemon(true);
+            return t;
+        });
+        long period = Math.max(1, Math.min(5, seconds / 4));
+        checker.scheduleWithFixedDelay(SessionWatchdog::check, period, period, TimeUnit.SECONDS);
+        log.info("Session watchdog enabled: command budget " + seconds + " s");
+    }
+
+    private static void check() {
+        long now = System.nanoTime();
+        for (Session session : SESSIONS.values()) {
+            // Only the command in flight counts; an idle session (pool, prelaunch) is never hung
+            long since = session.inFlightSince;
+            if (session.killed || since == 0 || now - since < budgetNanos) {
+                continue;
+            }
+            try {
+                reap(session, now - since);
+            } catch (Exception e) {
+                log.warn("⚠️ Session watchdog could not reap hung session: " + e.getMessage());
+            }
+        }
+    }
+
+    private static void reap(Session session, long stuckNanos) {
+        session.killed = true;
+        REAPED.incrementAndGet();
+        long stuckSeconds = TimeUnit.NANOSECONDS.toSeconds(stuckNanos);
+        Thread caller = session.caller;
+        log.error("❌ Hung session: " + session.inFlightCommand + " has not returned for " + stuckSeconds
+            + " s on " + (caller == null ? "unknown thread" : caller.getName()) + " - killing session");
+
+        writeDiagnostics(session, stuckSeconds, caller);
+
+        boolean killed = SessionRegistry.killProcessTree(session.driver);
+        if (!killed && caller != null) {
+            // Remote session or process not found: unblock the test thread instead
+            caller.interrupt();
+        }
+    }
+
+    private static void writeDiagnostics(Session session, long stuckSeconds, Thread caller) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Command: ").append(session.inFlightCommand).append('\n');
+        sb.append("Stuck for: ").append(stuckSeconds).append(" s\n");
+        if (caller != null) {
+            sb.append("Thread: ").append(caller.getName()).append('\n');
+            for (StackTraceElement frame : caller.getStackTrace()) {
+                sb.append("    at ").append(frame).append('\n');
+            }
+        }
+        try {
+            Files.createDirectories(DIAGNOSTICS_DIR);
+            Path file = DIAGNOSTICS_DIR.resolve("hung-" + System.currentTimeMillis() + ".txt");
+            Files.write(file, sb.toString().getBytes(StandardCharsets.UTF_8));
+            log.error("Hung session diagnostics written to " + file);
+        } catch (IOException e) {
+            log.error("Hung session diagnostics:\n" + sb);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package Base;
+
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.edge.EdgeDriverService;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.service.DriverService;
+
+/**
+ * SharedDriverService - One msedgedriver/chromedriver process per JVM for all sessions
+ *
+ * Enabled with sharedDriverService=true. new EdgeDriver(options) starts a driver executable per
+ * session, and new EdgeDriver(service, options) stops the service again on quit, so sessions
+ * are created as RemoteWebDriver against the shared service URL instead (augmented, so CDP
+ * keeps working) and quit only ends the browser session. The service is health-checked before
+ * use and restarted if it died or stopped answering; a failed session start is retried once on
+ * a fresh service.
+ *
+ * geckodriver serves a single session per process, so Firefox keeps one service per session.
+ *
+ * Settings:
+ *   sharedDriverService  - true | false (default false)
+ */
+public final class SharedDriverService {
+
+    private static final Logger log = LogManager.getLogger(SharedDriverService.class);
+    private static final Map<String, DriverService> SERVICES = new ConcurrentHashMap<>();
+    private static final AtomicInteger SESSIONS = new AtomicInteger();
+    private static final AtomicInteger RESTARTS = new AtomicInteger();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(SharedDriverService::stopAll, "driver-service-stop"));
+    }
+
+    private SharedDriverService() {
+    }
+
+    /**
+     * @return true when sharedDriverService=true and the browser driver supports many sessions
+     */
+    public static boolean isEnabled(Properties config, String browser) {
+        return config != null && !"firefox".equals(browser)
+            && Boolean.parseBoolean(config.getProperty("sharedDriverService", "false").trim());
+    }
+
+    /**
+     * Creates a session on the shared service of the browser, (re)starting the service as needed
+     */
+    public static WebDriver createDriver(String browser, Capabilities options) {
+        DriverService service = ensureHealthy(browser);
+        try {
+            return newSession(service, options);
+        } catch (RuntimeException e) {
+            if (isHealthy(service)) throw e;
+            log.warn("⚠️ Driver service failed while creating a session, restarting: " + e.getMessage());
+            return newSession(restart(browser, service), options);
+        }
+    }
+
+    private static WebDriver newSession(DriverService service, Capabilities options) {
+        WebDriver driver = new Augmenter().augment(new RemoteWebDriver(service.getUrl(), options));
+        SESSIONS.incrementAndGet();
+        return driver;
+    }
+
+    private static synchronized DriverService ensureHealthy(String browser) {
+        DriverService service = SERVICES.get(browser);
+        if (service != null && service.isRunning()) return service;
+        return restart(browser, service);
+    }
+
+    private static synchronized DriverService restart(String browser, DriverService broken) {
+        DriverService service = SERVICES.get(browser);
+        if (service != null && service != broken && isHealthy(service)) {
+            return service; // already replaced by another thread
+        }
+        if (service != null) {
+            RESTARTS.incrementAndGet();
+            try {
+                service.stop();
+            } catch (Exception ignored) {}
+        }
+
+        long start = System.currentTimeMillis();
+        service = "chrome".equals(browser)
+            ? ChromeDriverService.createDefaultService()
+            : EdgeDriverService.createDefaultService();
+        try {
+            service.start();
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not start shared " + browser + " driver service: " + e.getMessage(), e);
+        }
+        SERVICES.put(browser, service);
+        log.info("✅ Shared " + browser + " driver service started at " + service.getUrl()
+            + " in " + (System.currentTimeMillis() - start) + " ms");
+        return service;
+    }
+
+    /**
+     * Process alive and /status answering
+     */
+    static boolean isHealthy(DriverService service) {
+        if (service == null || !service.isRunning()) return false;
+        HttpURLConnection conn = null;
+        try {
+            conn = (HttpURLConnection) new URL(service.getUrl() + "/status").openConnection();
+            conn.setConnectTimeout(1000);
+            conn.setReadTimeout(3000);
+            return conn.getResponseCode() == 200;
+        } catch (Exception e) {
+            return false;
+        } finally {
+            if (conn != null) conn.disconnect();
+        }
+    }
+
+    /**
+     * Browser process of a session, found through its profile directory (reported as
+     * chrome.userDataDir / msedge.userDataDir). Lets the session watchdog kill one browser
+     * without taking down the shared driver service.
+     * @return pid, or -1 if the OS does not expose command lines
+     */
+    @SuppressWarnings("unchecked")
+    public static long findBrowserPid(WebDriver driver) {
+        // Decorated drivers (ElementCache, watchdog) are proxies that still expose HasCapabilities
+        if (!(driver instanceof HasCapabilities)) return -1;
+        Capabilities caps = ((HasCapabilities) driver).getCapabilities();
+        Object vendor = caps.getCapability("chrome");
+        if (vendor == null) vendor = caps.getCapability("msedge");
+        if (!(vendor instanceof Map)) return -1;
+        Object dir = ((Map<String, Object>) vendor).get("userDataDir");
+        if (dir == null) return -1;
+        String profileArg = "--user-data-dir=" + dir;
+        // Renderer/GPU children carry the same switch; the browser is the match whose parent does not
+        Predicate<ProcessHandle> usesProfile =
+            p -> p.info().commandLine().map(c -> c.contains(profileArg)).orElse(false);
+        return ProcessHandle.current().descendants()
+            .filter(usesProfile)
+            .filter(p -> !p.parent().map(usesProfile::test).orElse(false))
+            .map(ProcessHandle::pid)
+            .findFirst()
+            .orElse(-1L);
+    }
+
+    public static String getMetricsSummary() {
+        return "Shared driver service: sessions=" + SESSIONS.get() + ", restarts=" + RESTARTS.get();
+    }
+
+    private static void stopAll() {
+        for (DriverService service : SERVICES.values()) {
+            try {
+                service.stop();
+            } catch (Exception ignored) {}
+        }
+        SERVICES.clear();
+    }
+}
@@ -1,6 +1,10 @@
 package Pages;
 
 import Actions.ActionEngine;
+import Actions.BulkReader;
+import Actions.Probe;
+import Actions.StrategyRanker;
+import Actions.WaitEngine;
 import Locators.InitiativePageLocators;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
@@ -10,7 +14,10 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.Assert;
 import java.time.Duration;
 import java.io.File;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import org.apache.commons.io.FileUtils;
 import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.MediaEntityBuilder;
@@ -68,13 +75,7 @@ public class InitiativePage extends ActionEngine {
 
     // ✅ Helper method to check if element is present
     private boolean isElementPresent(By locator, int timeoutSeconds) {
-        try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-            wait.until(ExpectedConditions.presenceOfElementLocated(locator));
-            return true;
-        } catch (TimeoutException e) {
-            return false;
-        }
+        return Probe.within(driver, locator, Duration.ofSeconds(timeoutSeconds));
     }
     
     // ✅ Navigate to Initiative Page
@@ -83,31 +84,26 @@ public class InitiativePage extends ActionEngine {
         System.out.println("🔍 NAVIGATION TO INITIATIVE - START");
         System.out.println("═══════════════════════════════════════════════════════");
         
-        // Wait for page to be fully loaded after login
+        // Wait for the app to be ready after login (React root mounted, no spinners, no pending requests)
         System.out.println("⏳ Waiting for page to stabilize after login...");
-        waitForSeconds(5); // Increased wait time
-        
-        // Wait for page to be fully loaded
-        WebDriverWait pageWait = new WebDriverWait(driver, Duration.ofSeconds(20));
-        pageWait.until(driver -> ((JavascriptExecutor) driver)
-            .executeScript("return document.readyState").equals("complete"));
-        System.out.println("✅ Page fully loaded");
+        waitForPageReady();
+        System.out.println("✅ Page ready");
         
         try {
             // Step 1: Hover and click on initree to reveal menu
             System.out.println("\n📍 Step 1: Accessing Initiative Tree Menu...");
             hoverAndClickElement(InitiativePageLocators.initree, "Initiative Tree Menu");
-            waitForSeconds(2); // Wait for menu to appear
+            waitForElementToBeVisible(InitiativePageLocators.initiativeOption, "Initiative Option"); // Wait for menu to appear
             
             // Step 2: Click on initiative option (arrow)
             System.out.println("\n📍 Step 2: Clicking Initiative Option Arrow...");
             clickWithFallback(InitiativePageLocators.initiativeOption, "Initiative Option");
-            waitForSeconds(1);
             
             // Step 3: Click on Initiative node
             System.out.println("\n📍 Step 3: Clicking Initiative Node...");
+            PageMark menu = markPage();
             clickWithFallback(InitiativePageLocators.initiativeNode, "Initiative Node");
-            waitForSeconds(2); // Wait for Initiative page to load
+            waitForNavigation(menu); // Wait for Initiative page to load
             
             System.out.println("\n✅ ✅ ✅ Navigated to Initiative successfully! ✅ ✅ ✅");
             if (reportLogger != null) {
@@ -134,7 +130,7 @@ public class InitiativePage extends ActionEngine {
             System.out.println("🖱️ Hovering and clicking: " + elementName);
             
             // Wait for element to be visible
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(20));
+            WebDriverWait wait = WaitEngine.on(driver, Duration.ofSeconds(20));
             WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
             
             // Scroll element into view
@@ -147,21 +143,13 @@ public class InitiativePage extends ActionEngine {
             System.out.println("  ↪ Hovered over element");
             waitForSeconds(1);
             
-            // Try to click
-            try {
-                element.click();
-                System.out.println("  ↪ Clicked using regular click");
-            } catch (Exception e1) {
-                System.out.println("  ⚠️ Regular click failed, trying JavaScript click...");
-                try {
-                    ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
-                    System.out.println("  ↪ Clicked using JavaScript");
-                } catch (Exception e2) {
-                    System.out.println("  ⚠️ JavaScript click failed, trying Actions click...");
-                    actions.moveToElement(element).click().perform();
-                    System.out.println("  ↪ Clicked using Actions");
-                }
-            }
+            // Click: regular, JavaScript or Actions, the one that worked for this element before first
+            Map<String, StrategyRanker.Attempt> strategies = new LinkedHashMap<>();
+            strategies.put("regular click", element::click);
+            strategies.put("JavaScript click", () -> ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element));
+            strategies.put("Actions click", () -> actions.moveToElement(element).click().perform());
+            String used = StrategyRanker.run("InitiativePage.hoverAndClickElement", locator, strategies);
+            System.out.println("  ↪ Clicked using " + used);
             
             System.out.println("✅ Successfully hovered and clicked: " + elementName);
             if (reportLogger != null) {
@@ -180,21 +168,24 @@ public class InitiativePage extends ActionEngine {
     }
     
     public void Initiativebeforeclickadd() throws Exception {
-        waitForSeconds(3); // buffer wait after login
+        waitForPageReady(); // buffer wait after login
         clickWithFallback(InitiativePageLocators.initreec, "Initiative Nodec");
     }
 
     // ✅ Helper method to click with js fallback
     private void clickWithFallback(By locator, String elementName) throws Exception {
         waitForElementToBeVisible(locator, elementName);
-        try {
-            click(locator, elementName);
-            if (reportLogger != null) {
+        Map<String, StrategyRanker.Attempt> strategies = new LinkedHashMap<>();
+        strategies.put("click", () -> WaitEngine.on(driver, Duration.ofSeconds(20))
+            .until(ExpectedConditions.elementToBeClickable(locator)).click());
+        strategies.put("JS click", () -> ((JavascriptExecutor) driver).executeScript(
+            "arguments[0].click();", driver.findElement(locator)));
+        String used = StrategyRanker.run("InitiativePage.clickWithFallback", locator, strategies);
+        System.out.println("✅ Clicked on: " + elementName + " (" + used + ")");
+        if (reportLogger != null) {
+            if ("click".equals(used)) {
                 reportLogger.pass("Clicked on: " + elementName);
-            }
-        } catch (Exception e) {
-            jsClick(locator, elementName); // fallback
-            if (reportLogger != null) {
+            } else {
                 reportLogger.warning("Used JS Click for: " + elementName);
             }
         }
@@ -278,13 +269,13 @@ public class InitiativePage extends ActionEngine {
             WebElement modal = null;
             try {
                 modal = driver.findElement(InitiativePageLocators.submitCommentsContainer);
+                BulkReader.ElementState modalState = bulkRead(Arrays.asList(modal))
+                    .attributes("class", "style").styles("display", "visibility").read().first();
                 System.out.println("  📋 Modal Details:");
-                System.out.println("    - Class: " + modal.getAttribute("class"));
-                System.out.println("    - Style: " + modal.getAttribute("style"));
-                System.out.println("    - Display: " + ((JavascriptExecutor) driver).executeScript(
-                    "return window.getComputedStyle(arguments[0]).display;", modal));
-                System.out.println("    - Visibility: " + ((JavascriptExecutor) driver).executeScript(
-                    "return window.getComputedStyle(arguments[0]).visibility;", modal));
+                System.out.println("    - Class: " + modalState.getAttribute("class"));
+                System.out.println("    - Style: " + modalState.getAttribute("style"));
+                System.out.println("    - Display: " + modalState.getStyle("display"));
+                System.out.println("    - Visibility: " + modalState.getStyle("visibility"));
                 
                 // CRITICAL: Check for iframes INSIDE the modal
                 int modalIframeCount = modal.findElements(InitiativePageLocators.allIframes).size();
@@ -329,39 +320,40 @@ public class InitiativePage extends ActionEngine {
             
             // Get the textarea element
             try {
-                WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+                WebDriverWait wait = WaitEngine.on(driver, Duration.ofSeconds(15));
                 textarea = wait.until(ExpectedConditions.presenceOfElementLocated(InitiativePageLocators.additionalNotes));
                 System.out.println("  ✓ Textarea element found");
                 
-                // DETAILED DEBUGGING - Check all properties
+                // DETAILED DEBUGGING - Check all properties (read in one script call)
+                BulkReader.ElementState state = bulkRead(Arrays.asList(textarea))
+                    .attributes("id", "name", "class", "type", "placeholder", "readonly", "disabled", "aria-disabled", "tabindex")
+                    .properties("value")
+                    .styles("display", "visibility", "opacity", "pointer-events", "z-index")
+                    .text().visibility().enabled()
+                    .read().first();
                 System.out.println("\n  📋 ═══ DETAILED TEXTAREA ANALYSIS ═══");
-                System.out.println("    - Tag Name: " + textarea.getTagName());
-                System.out.println("    - ID: " + textarea.getAttribute("id"));
-                System.out.println("    - Name: " + textarea.getAttribute("name"));
-                System.out.println("    - Class: " + textarea.getAttribute("class"));
-                System.out.println("    - Type: " + textarea.getAttribute("type"));
-                System.out.println("    - Placeholder: " + textarea.getAttribute("placeholder"));
-                System.out.println("    - Current Value: '" + textarea.getAttribute("value") + "'");
-                System.out.println("    - Current Text: '" + textarea.getText() + "'");
-                System.out.println("    - Displayed: " + textarea.isDisplayed());
-                System.out.println("    - Enabled: " + textarea.isEnabled());
-                System.out.println("    - Readonly: " + textarea.getAttribute("readonly"));
-                System.out.println("    - Disabled: " + textarea.getAttribute("disabled"));
-                System.out.println("    - Aria-disabled: " + textarea.getAttribute("aria-disabled"));
-                System.out.println("    - Tabindex: " + textarea.getAttribute("tabindex"));
+                System.out.println("    - Tag Name: " + state.getTagName());
+                System.out.println("    - ID: " + state.getAttribute("id"));
+                System.out.println("    - Name: " + state.getAttribute("name"));
+                System.out.println("    - Class: " + state.getAttribute("class"));
+                System.out.println("    - Type: " + state.getAttribute("type"));
+                System.out.println("    - Placeholder: " + state.getAttribute("placeholder"));
+                System.out.println("    - Current Value: '" + state.getProperty("value") + "'");
+                System.out.println("    - Current Text: '" + state.getText() + "'");
+                System.out.println("    - Displayed: " + state.isDisplayed());
+                System.out.println("    - Enabled: " + state.isEnabled());
+                System.out.println("    - Readonly: " + state.getAttribute("readonly"));
+                System.out.println("    - Disabled: " + state.getAttribute("disabled"));
+                System.out.println("    - Aria-disabled: " + state.getAttribute("aria-disabled"));
+                System.out.println("    - Tabindex: " + state.getAttribute("tabindex"));
                 
                 // Check computed styles
                 System.out.println("\n  🎨 Computed Styles:");
-                System.out.println("    - Display: " + ((JavascriptExecutor) driver).executeScript(
-                    "return window.getComputedStyle(arguments[0]).display;", textarea));
-                System.out.println("    - Visibility: " + ((JavascriptExecutor) driver).executeScript(
-                    "return window.getComputedStyle(arguments[0]).visibility;", textarea));
-                System.out.println("    - Opacity: " + ((JavascriptExecutor) driver).executeScript(
-                    "return window.getComputedStyle(arguments[0]).opacity;", textarea));
-                System.out.println("    - Pointer-events: " + ((JavascriptExecutor) driver).executeScript(
-                    "return window.getComputedStyle(arguments[0]).pointerEvents;", textarea));
-                System.out.println("    - Z-index: " + ((JavascriptExecutor) driver).executeScript(
-                    "return window.getComputedStyle(arguments[0]).zIndex;", textarea));
+                System.out.println("    - Display: " + state.getStyle("display"));
+                System.out.println("    - Visibility: " + state.getStyle("visibility"));
+                System.out.println("    - Opacity: " + state.getStyle("opacity"));
+                System.out.println("    - Pointer-events: " + state.getStyle("pointer-events"));
+                System.out.println("    - Z-index: " + state.getStyle("z-index"));
                 
                 // Check for overlapping elements
                 System.out.println("\n  🔍 Checking for overlapping elements...");
@@ -381,13 +373,13 @@ public class InitiativePage extends ActionEngine {
                 waitForSeconds(2);
                 
                 // Remove readonly if present
-                if (textarea.getAttribute("readonly") != null) {
+                if (state.getAttribute("readonly") != null) {
                     System.out.println("  ⚠️ Textarea has readonly attribute - removing it...");
                     ((JavascriptExecutor) driver).executeScript("arguments[0].removeAttribute('readonly');", textarea);
                 }
                 
                 // Remove disabled if present
-                if (textarea.getAttribute("disabled") != null) {
+                if (state.getAttribute("disabled") != null) {
                     System.out.println("  ⚠️ Textarea has disabled attribute - removing it...");
                     ((JavascriptExecutor) driver).executeScript("arguments[0].removeAttribute('disabled');", textarea);
                 }
@@ -1250,7 +1242,7 @@ public class InitiativePage extends ActionEngine {
 
     public void selectInitiativeBGWithActions(String bgName) throws Throwable {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(20));
+            WebDriverWait wait = WaitEngine.on(driver, Duration.ofSeconds(20));
             Actions actions = new Actions(driver);
             
             // 1. Click dropdown - Using centralized locator
@@ -1276,7 +1268,7 @@ public class InitiativePage extends ActionEngine {
 
     public void selectInitiativeOUWithActions(String OUName) throws Throwable {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(20));
+            WebDriverWait wait = WaitEngine.on(driver, Duration.ofSeconds(20));
             Actions actions = new Actions(driver);
             
             // 1. Click dropdown - Using centralized locator
@@ -1304,7 +1296,7 @@ public class InitiativePage extends ActionEngine {
     public String verifyAlertMessage(String expectedMsg) throws Throwable {
         try {
             // Wait up to 15s since toast may load late
-            WebDriverWait wait = new WebDriverWait(webDriver, Duration.ofSeconds(15));
+            WebDriverWait wait = WaitEngine.on(driver, Duration.ofSeconds(15));
             WebElement alertElement = wait.until(
                 ExpectedConditions.visibilityOfElementLocated(InitiativePageLocators.toastAlert)
             );
@@ -1321,7 +1313,7 @@ public class InitiativePage extends ActionEngine {
                 reportLogger.fail(
                     "❌ Expected: " + expectedMsg + " but found: " + actualMsg,
                     MediaEntityBuilder.createScreenCaptureFromPath(
-                        getScreenshot(webDriver, "AlertMismatch")
+                        getScreenshot(driver, "AlertMismatch")
                     ).build()
                 );
             }
@@ -1354,7 +1346,7 @@ public class InitiativePage extends ActionEngine {
         System.out.println("🔘 Attempting to Click SUBMIT Button");
         System.out.println("🔘 ═══════════════════════════════════════════");
         
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(20));
+        WebDriverWait wait = WaitEngine.on(driver, Duration.ofSeconds(20));
         boolean clicked = false;
         WebElement submitEl = null;
         
@@ -1532,7 +1524,7 @@ public class InitiativePage extends ActionEngine {
         // Verify it actually fired: wait for modal to appear
         System.out.println("  🔍 Verifying submit action...");
         try {
-            WebDriverWait shortWait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            WebDriverWait shortWait = WaitEngine.on(driver, Duration.ofSeconds(10));
             
             // First, try to wait for the modal to appear (this is the expected behavior)
             try {
@@ -1575,7 +1567,7 @@ public class InitiativePage extends ActionEngine {
         try {
             // Use dynamic helper method for consistency
             By modalLocator = InitiativePageLocators.getDynamicModalByXPath(modalXPath);
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
+            WebDriverWait wait = WaitEngine.on(driver, Duration.ofSeconds(timeoutSeconds));
             
             // Wait for modal to be visible
             WebElement modal = wait.until(ExpectedConditions.visibilityOfElementLocated(modalLocator));
@@ -1679,7 +1671,7 @@ public class InitiativePage extends ActionEngine {
         System.out.println("🖱️ ═══════════════════════════════════════════");
         
         boolean clicked = false;
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(20));
+        WebDriverWait wait = WaitEngine.on(driver, Duration.ofSeconds(20));
         
         // FIRST: Debug - Print ALL buttons in modal - Using centralized locator
         System.out.println("\n🔍 DEBUG: Scanning all buttons in modal...");
@@ -2016,7 +2008,7 @@ public class InitiativePage extends ActionEngine {
      */
     public boolean waitForNewWindow(int expectedCount, int timeoutSeconds) {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
+            WebDriverWait wait = WaitEngine.on(driver, Duration.ofSeconds(timeoutSeconds));
             return wait.until(driver -> driver.getWindowHandles().size() >= expectedCount);
         } catch (Exception e) {
             System.out.println("❌ New window did not appear: " + e.getMessage());
@@ -2041,7 +2033,7 @@ public class InitiativePage extends ActionEngine {
                     driver.switchTo().window(handle);
                     
                     // Wait for modal to be visible
-                    WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+                    WebDriverWait wait = WaitEngine.on(driver, Duration.ofSeconds(10));
                     wait.until(ExpectedConditions.visibilityOfElementLocated(modalLocator));
                     
                     System.out.println("✅ Switched to " + modalName);
@@ -2113,7 +2105,7 @@ public class InitiativePage extends ActionEngine {
     public boolean waitForHTMLModal(By modalLocator, int timeoutSeconds) {
         try {
             System.out.println("⏳ Waiting for HTML modal to appear...");
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
+            WebDriverWait wait = WaitEngine.on(driver, Duration.ofSeconds(timeoutSeconds));
             WebElement modal = wait.until(ExpectedConditions.visibilityOfElementLocated(modalLocator));
             
             if (modal.isDisplayed()) {
@@ -2147,7 +2139,7 @@ public class InitiativePage extends ActionEngine {
                 setAdditionalNotes(text);
             } else {
                 // For other fields, use standard typing
-                WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(20));
+                WebDriverWait wait = WaitEngine.on(driver, Duration.ofSeconds(20));
                 WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(elementLocator));
                 
                 // Scroll into view
@@ -2183,23 +2175,19 @@ public class InitiativePage extends ActionEngine {
         System.out.println("\n🖱️ Clicking in Modal: " + elementName);
         
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(20));
+            WebDriverWait wait = WaitEngine.on(driver, Duration.ofSeconds(20));
             WebElement element = wait.until(ExpectedConditions.elementToBeClickable(elementLocator));
             
             // Scroll into view
             ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'});", element);
             waitForSeconds(1);
             
-            // Try regular click first
-            try {
-                element.click();
-                System.out.println("✅ Clicked: " + elementName);
-            } catch (Exception e1) {
-                // Try JavaScript click as fallback
-                System.out.println("⚠️ Regular click failed, trying JavaScript click...");
-                ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
-                System.out.println("✅ JavaScript clicked: " + elementName);
-            }
+            // Regular or JavaScript click, whichever worked for this element before first
+            Map<String, StrategyRanker.Attempt> strategies = new LinkedHashMap<>();
+            strategies.put("regular click", element::click);
+            strategies.put("JavaScript click", () -> ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element));
+            String used = StrategyRanker.run("InitiativePage.clickElementInModal", elementLocator, strategies);
+            System.out.println("✅ Clicked: " + elementName + " (" + used + ")");
             
             if (reportLogger != null) {
                 reportLogger.info("Clicked in modal: " + elementName);
@@ -2226,7 +2214,7 @@ public class InitiativePage extends ActionEngine {
             System.out.println("📥 ═══════════════════════════════════════════");
             
             boolean clicked = false;
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+            WebDriverWait wait = WaitEngine.on(driver, Duration.ofSeconds(15));
             
             // Try multiple locators
             By[] locators = {
@@ -2343,7 +2331,7 @@ public class InitiativePage extends ActionEngine {
             System.out.println("⭐ ═══════════════════════════════════════════");
             
             boolean clicked = false;
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+            WebDriverWait wait = WaitEngine.on(driver, Duration.ofSeconds(15));
             
             // Try multiple locators
             By[] locators = {
@@ -2478,7 +2466,7 @@ public class InitiativePage extends ActionEngine {
             System.out.println("🔢 Getting Inbox Count from Badge");
             System.out.println("🔢 ═══════════════════════════════════════════");
             
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            WebDriverWait wait = WaitEngine.on(driver, Duration.ofSeconds(10));
             
             // Try multiple locators to find the count - Using centralized array
             By[] countLocators = InitiativePageLocators.inboxCountLocators;
@@ -2546,7 +2534,7 @@ public class InitiativePage extends ActionEngine {
     public int getWatchlistCount() {
         try {
             System.out.println("\n🔢 Getting Watchlist Count from Badge");
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            WebDriverWait wait = WaitEngine.on(driver, Duration.ofSeconds(10));
             
             // Try multiple locators to find the count - Using centralized array
             By[] countLocators = InitiativePageLocators.watchlistCountLocators;
@@ -2615,7 +2603,8 @@ public class InitiativePage extends ActionEngine {
                 try {
                     System.out.println("  → Trying locator " + (i + 1) + ": " + locatorNames[i]);
                     
-                    List<WebElement> rows = driver.findElements(rowLocators[i]);
+                    // One script call reads class, text and visibility of every row
+                    BulkReader.Snapshot rows = bulkRead(rowLocators[i]).attributes("class").text().visibility().read();
                     System.out.println("    📊 Found " + rows.size() + " total elements");
                     
                     if (!rows.isEmpty()) {
@@ -2626,10 +2615,10 @@ public class InitiativePage extends ActionEngine {
                         int emptyRows = 0;
                         
                         for (int j = 0; j < rows.size(); j++) {
-                            WebElement row = rows.get(j);
+                            BulkReader.ElementState row = rows.elements().get(j);
                             try {
                                 String rowClass = row.getAttribute("class");
-                                String rowText = row.getText().trim();
+                                String rowText = row.getText();
                                 boolean isDisplayed = row.isDisplayed();
                                 boolean isHeader = rowClass != null && rowClass.contains("header");
                                 boolean isEmpty = rowText.isEmpty();
@@ -2850,16 +2839,16 @@ public class InitiativePage extends ActionEngine {
             
             // Try to find pagination info
             try {
-                WebElement paginationInfo = driver.findElement(InitiativePageLocators.paginationInfo);
-                System.out.println("  Pagination: " + paginationInfo.getText());
+                BulkReader.ElementState paginationInfo = bulkRead(InitiativePageLocators.paginationInfo).text().read().first();
+                System.out.println("  Pagination: " + (paginationInfo != null ? paginationInfo.getText() : "Not found"));
             } catch (Exception e) {
                 System.out.println("  Pagination: Not found");
             }
             
             // Try to find total records
             try {
-                WebElement totalRecords = driver.findElement(InitiativePageLocators.totalRecords);
-                System.out.println("  Total Records: " + totalRecords.getText());
+                BulkReader.ElementState totalRecords = bulkRead(InitiativePageLocators.totalRecords).text().read().first();
+                System.out.println("  Total Records: " + (totalRecords != null ? totalRecords.getText() : "Not found"));
             } catch (Exception e) {
                 System.out.println("  Total Records: Not found");
             }
@@ -2873,12 +2862,12 @@ public class InitiativePage extends ActionEngine {
             
             for (By locator : rowLocators) {
                 try {
-                    List<WebElement> rows = driver.findElements(locator);
+                    BulkReader.Snapshot rows = bulkRead(locator).text().visibility().read();
                     if (!rows.isEmpty()) {
-                        for (int i = 0; i < rows.size(); i++) {
-                            WebElement row = rows.get(i);
+                        for (BulkReader.ElementState row : rows.elements()) {
                             if (row.isDisplayed()) {
-                                System.out.println("    Row " + (i + 1) + ": " + row.getText().substring(0, Math.min(50, row.getText().length())) + "...");
+                                String text = row.getText();
+                                System.out.println("    Row " + (row.getIndex() + 1) + ": " + text.substring(0, Math.min(50, text.length())) + "...");
                             }
                         }
                         break;
@@ -2904,7 +2893,7 @@ public class InitiativePage extends ActionEngine {
         try {
             System.out.println("\n🔍 Checking if pagination forward button is enabled...");
             
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(5));
+            WebDriverWait wait = WaitEngine.on(driver, Duration.ofSeconds(5));
             WebElement forwardButton = wait.until(ExpectedConditions.presenceOfElementLocated(
                     InitiativePageLocators.paginationForwardButton));
             
@@ -1,6 +1,8 @@
 package Pages;
 
 import Actions.ActionEngine;
+import Actions.Probe;
+import Actions.WaitEngine;
 import Locators.LoginPageLocators;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
@@ -21,7 +23,7 @@ public class LoginPage extends ActionEngine {
         
         this.driver = driver;
         this.test = test;
-        this.wait  = new WebDriverWait(driver, Duration.ofSeconds(30));
+        this.wait  = WaitEngine.on(driver, Duration.ofSeconds(30));
     }
 
     /**
@@ -30,15 +32,15 @@ public class LoginPage extends ActionEngine {
      */
     public void login(String username, String password) {
         // Ensure page is ready
-        wait.until(d -> ((JavascriptExecutor)d)
-            .executeScript("return document.readyState").equals("complete"));
+        waitForPageReady();
 
         try {
-            waitForSeconds(1);
 
             // Branch 1: Microsoft SSO (login.microsoftonline.com or Microsoft fields present)
             boolean onMsDomain = driver.getCurrentUrl().toLowerCase().contains("login.microsoftonline.com");
-            boolean msEmailPresent = isPresent(loc.getEmailField(), 5);
+            // Whichever login layout renders first decides; no 5 s wait when it is the internal form
+            boolean msEmailPresent = loc.getEmailField().equals(
+                Probe.firstOf(driver, Duration.ofSeconds(5), loc.getEmailField(), loc.getinputUserName()));
 
             if (onMsDomain || msEmailPresent) {
                 info("Detected Microsoft SSO flow");
@@ -66,9 +68,7 @@ public class LoginPage extends ActionEngine {
             info("🔐 Performing FORM login with username: " + username);
             
             // Ensure page is ready
-            wait.until(d -> ((JavascriptExecutor)d)
-                .executeScript("return document.readyState").equals("complete"));
-            waitForSeconds(1);
+            waitForPageReady();
 
             // Username
             wait.until(ExpectedConditions.visibilityOfElementLocated(loc.getinputUserName()));
@@ -109,9 +109,7 @@ public class LoginPage extends ActionEngine {
             info("🔐 Performing SSO login with email: " + email);
             
             // Ensure page is ready
-            wait.until(d -> ((JavascriptExecutor)d)
-                .executeScript("return document.readyState").equals("complete"));
-            waitForSeconds(1);
+            waitForPageReady();
 
 
             String originalWindow = driver.getWindowHandle();
@@ -124,10 +122,11 @@ public class LoginPage extends ActionEngine {
                 if (isPresent(loc.getMicrosoftLoginBtn(), 5)) {
                     info("Microsoft SSO button found - clicking it");
                     wait.until(ExpectedConditions.elementToBeClickable(loc.getMicrosoftLoginBtn()));
+                    PageMark landing = markPage();
                     click(loc.getMicrosoftLoginBtn(), "Microsoft SSO Button");
                     microsoftButtonClicked = true;
                     info("Microsoft SSO button clicked successfully");
-                    waitForSeconds(3);
+                    waitForNavigation(landing);
                 } else {
                     info("Microsoft SSO button not found on page");
                 }
@@ -166,10 +165,8 @@ public class LoginPage extends ActionEngine {
                 }
             }
 
-            // Wait for page to fully load
-            wait.until(d -> ((JavascriptExecutor)d)
-                .executeScript("return document.readyState").equals("complete"));
-            waitForSeconds(2);
+            // Wait for page to be ready
+            waitForPageReady();
 
             // STEP 4: Comprehensive search for email field
             info("Starting comprehensive search for email field...");
@@ -186,17 +183,11 @@ public class LoginPage extends ActionEngine {
                 By.cssSelector("input[type='email']")
             };
             
-            for (By locator : emailLocators) {
-                try {
-                    if (isPresent(locator, 3)) {
-                        info("✅ Email field found with locator: " + locator.toString());
-                        emailFieldFound = true;
-                        // Update to use the working locator temporarily
-                        break;
-                    }
-                } catch (Exception e) {
-                    // Continue to next locator
-                }
+            // One 3 s budget for the whole chain instead of 3 s per locator
+            By emailLocator = Probe.firstOf(driver, Duration.ofSeconds(3), emailLocators);
+            if (emailLocator != null) {
+                info("✅ Email field found with locator: " + emailLocator.toString());
+                emailFieldFound = true;
             }
 
             // Strategy 2: Check iframes if not found in main context
@@ -211,12 +202,10 @@ public class LoginPage extends ActionEngine {
                         driver.switchTo().frame(i);
                         info("Checking iframe " + i);
                         
-                        for (By locator : emailLocators) {
-                            if (isPresent(locator, 2)) {
-                                info("✅ Email field found in iframe " + i + " with locator: " + locator.toString());
-                                emailFieldFound = true;
-                                break;
-                            }
+                        By framed = Probe.firstOf(driver, Duration.ofSeconds(2), emailLocators);
+                        if (framed != null) {
+                            info("✅ Email field found in iframe " + i + " with locator: " + framed.toString());
+                            emailFieldFound = true;
                         }
                         
                         if (emailFieldFound) break;
@@ -233,7 +222,7 @@ public class LoginPage extends ActionEngine {
                 info("Strategy 3: Extended wait for email field...");
                 driver.switchTo().defaultContent();
                 try {
-                    WebDriverWait extendedWait = new WebDriverWait(driver, Duration.ofSeconds(15));
+                    WebDriverWait extendedWait = WaitEngine.on(driver, Duration.ofSeconds(15));
                     extendedWait.until(ExpectedConditions.or(
                         ExpectedConditions.presenceOfElementLocated(By.id("i0116")),
                         ExpectedConditions.presenceOfElementLocated(By.name("loginfmt")),
@@ -443,9 +432,13 @@ public class LoginPage extends ActionEngine {
                 }
             }
 
-            // Wait for final page load
-            wait.until(d -> ((JavascriptExecutor)d)
-                .executeScript("return document.readyState").equals("complete"));
+            // Wait for the redirect back to the app, then for the app to be ready
+            try {
+                wait.until(d -> !d.getCurrentUrl().toLowerCase().contains("login.microsoftonline"));
+            } catch (TimeoutException te) {
+                info("Still on the Microsoft login page: " + driver.getCurrentUrl());
+            }
+            waitForPageReady();
             
             info("✅ SSO login completed successfully for: " + email);
             if (test != null) test.pass("✅ SSO login completed for email: " + email);
@@ -483,13 +476,7 @@ public class LoginPage extends ActionEngine {
     private void error(String msg) { if (test != null) test.fail(msg); }
 
     private boolean isPresent(By locator, int timeoutSeconds) {
-        try {
-            new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds))
-                .until(ExpectedConditions.presenceOfElementLocated(locator));
-            return true;
-        } catch (TimeoutException e) {
-            return false;
-        }
+        return Probe.within(driver, locator, Duration.ofSeconds(timeoutSeconds));
     }
 
     private boolean tryTypePassword(String password) {
@@ -540,8 +527,9 @@ public class LoginPage extends ActionEngine {
             java.util.List<WebElement> frames = driver.findElements(By.cssSelector("iframe,frame"));
             for (WebElement frame : frames) {
                 try {
+                    // The page had its full budget above; frames are loaded by now, so only check
                     driver.switchTo().frame(frame);
-                    if (isPresent(locator, timeoutSeconds)) {
+                    if (Probe.now(driver, locator)) {
                         return true;
                     }
                     // Recurse one level deeper for nested frames
@@ -549,7 +537,7 @@ public class LoginPage extends ActionEngine {
                     for (WebElement in : inner) {
                         try {
                             driver.switchTo().frame(in);
-                            if (isPresent(locator, timeoutSeconds)) {
+                            if (Probe.now(driver, locator)) {
                                 return true;
                             }
                         } catch (Exception ignored) {
@@ -0,0 +1,365 @@
+package Utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import Actions.WaitEngine;
+import Locators.InitiativePageLocators;
+import Locators.LoginPageLocators;
+
+/**
+ * AuthStateCache - Captures and restores an authenticated browser state
+ *
+ * After one successful login the cookies plus localStorage/sessionStorage of the application
+ * origin are written to target/auth-state, AES-GCM encrypted and keyed by authType/user/url.
+ * Later sessions inject that state and only fall back to a real login when a quick probe
+ * shows the restored session is no longer signed in.
+ *
+ * Settings:
+ *   authStateCache              - true | false (default false)
+ *   authStateMaxAgeMinutes      - discard captured state older than this (default 240)
+ *   authStateKey                - encryption passphrase, only as -DauthStateKey or the AUTH_STATE_KEY
+ *                                 env var (which wins). Without one, a random key is created once
+ *                                 per machine in ~/.initiative-automation/auth-state.key, readable
+ *                                 only by its owner; never a value from the repository.
+ */
+public class AuthStateCache {
+
+    private static final Logger log = LogManager.getLogger(AuthStateCache.class);
+    private static final Json JSON = new Json();
+    private static final Path CACHE_DIR = Paths.get(System.getProperty("user.dir"), "target", "auth-state");
+    private static final int SALT_BYTES = 16;
+    private static final int IV_BYTES = 12;
+    private static final Path KEY_FILE = Paths.get(System.getProperty("user.home"), ".initiative-automation", "auth-state.key");
+    private static volatile String machineKey;
+
+    private final Properties config;
+    private final long maxAgeMillis;
+
+    public AuthStateCache(Properties config) {
+        this.config = config;
+        this.maxAgeMillis = Long.parseLong(config.getProperty("authStateMaxAgeMinutes", "240").trim()) * 60_000L;
+    }
+
+    /**
+     * @return true when authStateCache=true in config
+     */
+    public static boolean isEnabled(Properties config) {
+        return config != null && Boolean.parseBoolean(config.getProperty("authStateCache", "false").trim());
+    }
+
+    /**
+     * Injects a previously captured state and checks whether the app accepts it
+     * @return true if the browser is now signed in, false if a real login is needed
+     */
+    public boolean restore(WebDriver driver, LoginHelper.AuthType authType) {
+        long start = System.currentTimeMillis();
+        Path file = stateFile(authType);
+        if (!Files.exists(file)) {
+            log.info("No cached auth state for " + authType + " - performing real login");
+            return false;
+        }
+
+        try {
+            Map<String, Object> state = read(file);
+            long capturedAt = ((Number) state.get("capturedAt")).longValue();
+            if (System.currentTimeMillis() - capturedAt > maxAgeMillis) {
+                log.info("Cached auth state expired - performing real login");
+                Files.deleteIfExists(file);
+                return false;
+            }
+
+            applyCookies(driver, asList(state.get("cookies")));
+            applyStorage(driver, "localStorage", asMap(state.get("localStorage")));
+            applyStorage(driver, "sessionStorage", asMap(state.get("sessionStorage")));
+
+            driver.navigate().to(String.valueOf(state.get("landingUrl")));
+
+            if (probeSignedIn(driver, Duration.ofSeconds(8))) {
+                log.info("✅ Restored cached auth state in " + (System.currentTimeMillis() - start) + " ms");
+                return true;
+            }
+
+            log.info("Cached auth state rejected by the app - performing real login");
+            Files.deleteIfExists(file);
+            driver.manage().deleteAllCookies();
+            driver.navigate().to(config.getProperty("url"));
+            return false;
+        } catch (Exception e) {
+            log.warn("⚠️ Could not restore cached auth state: " + e.getMessage());
+            try {
+                Files.deleteIfExists(file);
+                driver.navigate().to(config.getProperty("url"));
+            } catch (Exception ignored) {}
+            return false;
+        }
+    }
+
+    /**
+     * Saves the current authenticated state once the app shell is visible
+     */
+    public void capture(WebDriver driver, LoginHelper.AuthType authType) {
+        try {
+            if (!probeSignedIn(driver, Duration.ofSeconds(20))) {
+                log.warn("⚠️ App shell not visible after login - auth state not cached");
+                return;
+            }
+
+            Map<String, Object> state = new LinkedHashMap<>();
+            state.put("capturedAt", System.currentTimeMillis());
+            state.put("landingUrl", driver.getCurrentUrl());
+            state.put("cookies", readCookies(driver));
+            state.put("localStorage", readStorage(driver, "localStorage"));
+            state.put("sessionStorage", readStorage(driver, "sessionStorage"));
+
+            write(stateFile(authType), JSON.toJson(state));
+            log.info("✅ Auth state cached for " + authType);
+        } catch (Exception e) {
+            log.warn("⚠️ Could not cache auth state: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Cheap signed-in probe: the app sidebar shows up before any login control does
+     */
+    public static boolean probeSignedIn(WebDriver driver, Duration timeout) {
+        LoginPageLocators loc = new LoginPageLocators();
+        try {
+            WebDriverWait wait = WaitEngine.on(driver, timeout, Duration.ofMillis(200));
+            return wait.until(d -> {
+                if (!d.findElements(InitiativePageLocators.hoverMenuTrigger).isEmpty()) return Boolean.TRUE;
+                if (!d.findElements(loc.getMicrosoftLoginBtn()).isEmpty()
+                        || !d.findElements(loc.getinputUserName()).isEmpty()
+                        || !d.findElements(By.name("loginfmt")).isEmpty()) return Boolean.FALSE;
+                return null;
+            });
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    // =====================
+    // Cookies and storage
+    // =====================
+    private List<Map<String, Object>> readCookies(WebDriver driver) {
+        List<Map<String, Object>> cookies = new ArrayList<>();
+        if (driver instanceof HasCdp) {
+            // All domains, including the SSO provider
+            Map<String, Object> result = ((HasCdp) driver).executeCdpCommand("Network.getAllCookies", new HashMap<>());
+            for (Object c : asList(result.get("cookies"))) {
+                cookies.add(asMap(c));
+            }
+            return cookies;
+        }
+        for (Cookie c : driver.manage().getCookies()) {
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("name", c.getName());
+            m.put("value", c.getValue());
+            m.put("domain", c.getDomain());
+            m.put("path", c.getPath());
+            m.put("secure", c.isSecure());
+            m.put("httpOnly", c.isHttpOnly());
+            if (c.getExpiry() != null) m.put("expires", c.getExpiry().getTime() / 1000.0);
+            cookies.add(m);
+        }
+        return cookies;
+    }
+
+    private void applyCookies(WebDriver driver, List<Object> cookies) {
+        if (driver instanceof HasCdp) {
+            List<Map<String, Object>> params = new ArrayList<>();
+            for (Object o : cookies) {
+                Map<String, Object> c = asMap(o);
+                Map<String, Object> p = new HashMap<>();
+                for (String key : Arrays.asList("name", "value", "domain", "path", "secure", "httpOnly", "sameSite")) {
+                    if (c.get(key) != null) p.put(key, c.get(key));
+                }
+                Object expires = c.get("expires");
+                if (expires instanceof Number && ((Number) expires).doubleValue() > 0) p.put("expires", expires);
+                params.add(p);
+            }
+            Map<String, Object> args = new HashMap<>();
+            args.put("cookies", params);
+            ((HasCdp) driver).executeCdpCommand("Network.setCookies", args);
+            return;
+        }
+
+        // WebDriver can only set cookies for the domain currently loaded
+        String host = java.net.URI.create(driver.getCurrentUrl()).getHost();
+        for (Object o : cookies) {
+            Map<String, Object> c = asMap(o);
+            String domain = String.valueOf(c.get("domain"));
+            if (host == null || !host.endsWith(domain.startsWith(".") ? domain.substring(1) : domain)) continue;
+            Cookie.Builder b = new Cookie.Builder(String.valueOf(c.get("name")), String.valueOf(c.get("value")))
+                .path(c.get("path") == null ? "/" : String.valueOf(c.get("path")))
+                .isSecure(Boolean.TRUE.equals(c.get("secure")))
+                .isHttpOnly(Boolean.TRUE.equals(c.get("httpOnly")));
+            Object expires = c.get("expires");
+            if (expires instanceof Number && ((Number) expires).doubleValue() > 0) {
+                b.expiresOn(new java.util.Date((long) (((Number) expires).doubleValue() * 1000)));
+            }
+            try {
+                driver.manage().addCookie(b.build());
+            } catch (Exception ignored) {}
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> readStorage(WebDriver driver, String area) {
+        Object result = ((JavascriptExecutor) driver).executeScript(
+            "var s = window[arguments[0]], out = {};" +
+            "for (var i = 0; i < s.length; i++) { var k = s.key(i); out[k] = s.getItem(k); }" +
+            "return out;", area);
+        return result instanceof Map ? (Map<String, Object>) result : new HashMap<>();
+    }
+
+    private void applyStorage(WebDriver driver, String area, Map<String, Object> entries) {
+        if (entries.isEmpty()) return;
+        ((JavascriptExecutor) driver).executeScript(
+            "var s = window[arguments[0]], e = arguments[1];" +
+            "for (var k in e) { s.setItem(k, e[k]); }", area, entries);
+    }
+
+    // =====================
+    // Encrypted file store
+    // =====================
+    private Path stateFile(LoginHelper.AuthType authType) {
+        String user = authType == LoginHelper.AuthType.SSO
+            ? config.getProperty("email", "") : config.getProperty("username", "");
+        String key = authType + "|" + user + "|" + config.getProperty("url", "");
+        return CACHE_DIR.resolve(sha256Hex(key) + ".state");
+    }
+
+    private void write(Path file, String plain) throws Exception {
+        SecureRandom random = new SecureRandom();
+        byte[] salt = new byte[SALT_BYTES];
+        byte[] iv = new byte[IV_BYTES];
+        random.nextBytes(salt);
+        random.nextBytes(iv);
+
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, deriveKey(salt), new GCMParameterSpec(128, iv));
+        byte[] encrypted = cipher.doFinal(plain.getBytes(StandardCharsets.UTF_8));
+
+        byte[] out = new byte[SALT_BYTES + IV_BYTES + encrypted.length];
+        System.arraycopy(salt, 0, out, 0, SALT_BYTES);
+        System.arraycopy(iv, 0, out, SALT_BYTES, IV_BYTES);
+        System.arraycopy(encrypted, 0, out, SALT_BYTES + IV_BYTES, encrypted.length);
+
+        Files.createDirectories(CACHE_DIR);
+        Path tmp = Files.createTempFile(CACHE_DIR, "state", ".tmp");
+        Files.write(tmp, out);
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Map<String, Object> read(Path file) throws Exception {
+        byte[] in = Files.readAllBytes(file);
+        byte[] salt = Arrays.copyOfRange(in, 0, SALT_BYTES);
+        byte[] iv = Arrays.copyOfRange(in, SALT_BYTES, SALT_BYTES + IV_BYTES);
+
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.DECRYPT_MODE, deriveKey(salt), new GCMParameterSpec(128, iv));
+        byte[] plain = cipher.doFinal(in, SALT_BYTES + IV_BYTES, in.length - SALT_BYTES - IV_BYTES);
+        return JSON.toType(new String(plain, StandardCharsets.UTF_8), Json.MAP_TYPE);
+    }
+
+    private SecretKeySpec deriveKey(byte[] salt) throws Exception {
+        String passphrase = System.getenv("AUTH_STATE_KEY");
+        if (passphrase == null || passphrase.isEmpty()) passphrase = System.getProperty("authStateKey");
+        if (passphrase == null || passphrase.isEmpty()) passphrase = machineKey();
+        PBEKeySpec spec = new PBEKeySpec(passphrase.toCharArray(), salt, 65_536, 256);
+        byte[] key = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256").generateSecret(spec).getEncoded();
+        return new SecretKeySpec(key, "AES");
+    }
+
+    /**
+     * Random per-machine key outside the repository, created on first use with owner-only access
+     */
+    private static synchronized String machineKey() throws IOException {
+        if (machineKey != null) return machineKey;
+        if (!Files.exists(KEY_FILE)) {
+            byte[] random = new byte[32];
+            new SecureRandom().nextBytes(random);
+            Files.createDirectories(KEY_FILE.getParent());
+            Path tmp = Files.createTempFile(KEY_FILE.getParent(), "key", ".tmp");
+            restrictToOwner(tmp);
+            Files.write(tmp, Base64.getEncoder().encodeToString(random).getBytes(StandardCharsets.US_ASCII));
+            try {
+                Files.move(tmp, KEY_FILE, StandardCopyOption.ATOMIC_MOVE);
+                log.info("Created auth state key " + KEY_FILE);
+            } catch (FileAlreadyExistsException e) {
+                // Another JVM created it first
+                Files.deleteIfExists(tmp);
+            }
+        }
+        machineKey = new String(Files.readAllBytes(KEY_FILE), StandardCharsets.US_ASCII).trim();
+        return machineKey;
+    }
+
+    private static void restrictToOwner(Path file) throws IOException {
+        if (file.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-------"));
+        } else {
+            File f = file.toFile();
+            f.setReadable(false, false);
+            f.setWritable(false, false);
+            f.setReadable(true, true);
+            f.setWritable(true, true);
+        }
+    }
+
+    private static String sha256Hex(String value) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder();
+            for (byte b : hash) sb.append(String.format("%02x", b));
+            return sb.toString();
+        } catch (Exception e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asMap(Object o) {
+        return o instanceof Map ? (Map<String, Object>) o : new HashMap<>();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> asList(Object o) {
+        return o instanceof List ? (List<Object>) o : new ArrayList<>();
+    }
+}
@@ -1,5 +1,6 @@
 package Utils;
 
+import Base.FrameworkConfig;
 import Pages.LoginPage;
 import org.openqa.selenium.WebDriver;
 import com.aventstack.extentreports.ExtentTest;
@@ -16,6 +17,7 @@ public class LoginHelper {
         SSO     // Email + Password (Microsoft SSO)
     }
     
+    private final WebDriver driver;
     private final LoginPage loginPage;
     private final Properties config;
     private final ExtentTest test;
@@ -27,6 +29,7 @@ public class LoginHelper {
      * @param config Properties object containing configuration
      */
     public LoginHelper(WebDriver driver, ExtentTest test, Properties config) {
+        this.driver = driver;
         this.loginPage = new LoginPage(driver, test);
         this.config = config;
         this.test = test;
@@ -34,22 +37,27 @@ public class LoginHelper {
     
     /**
      * Performs login based on configured authentication type
-     * Reads authType from config.properties to determine login method
+     * Reads authType (and authStateCache) from the FrameworkConfig snapshot to determine login method.
+     * When authStateCache=true, a cached signed-in state is restored first and a real
+     * login only happens if that state is missing or no longer accepted.
      */
     public void performLogin() {
-        String authTypeStr = config.getProperty("authType", "FORM").toUpperCase();
-        AuthType authType;
+        FrameworkConfig settings = FrameworkConfig.get();
+        AuthType authType = settings.getAuthType();
         
-        try {
-            authType = AuthType.valueOf(authTypeStr);
-        } catch (IllegalArgumentException e) {
+        if (!settings.isAuthStateCache()) {
+            performLogin(authType);
+            return;
+        }
+        AuthStateCache cache = new AuthStateCache(config);
+        if (cache.restore(driver, authType)) {
             if (test != null) {
-                test.warning("Invalid authType in config: " + authTypeStr + ". Defaulting to FORM");
+                test.info("🔓 Restored cached " + authType + " session - login skipped");
             }
-            authType = AuthType.FORM;
+            return;
         }
-        
         performLogin(authType);
+        cache.capture(driver, authType);
     }
     
     /**
@@ -0,0 +1,199 @@
+package Utils;
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import Base.FrameworkConfig;
+import Base.GridManager;
+import Base.HostCapacity;
+
+/**
+ * ShardPlanner - Spreads test methods across browser slots
+ *
+ * Methods are ordered longest-first using the durations recorded by SlotUtilizationListener
+ * (target/test-durations.properties), so the least loaded slot picks up the next long test and
+ * parallel slots finish at about the same time. The plan is logged with its estimated
+ * wall time.
+ *
+ * - In grid mode with gridAutoParallel=true the suite is switched to parallel="methods"
+ *   with one thread per Grid slot.
+ * - Locally, the thread count is lowered to HostCapacity's per-host session cap, if one is set.
+ * - -DshardCount=N -DshardIndex=i keeps every N-th method by class/method name, starting at i,
+ *   so several JVMs (or CI jobs) split one suite the same way whatever durations each of them
+ *   has recorded.
+ * Methods are only reordered in grid mode or when sharding; a plain local run keeps the
+ * order TestNG derives from priority= and dependencies.
+ */
+public class ShardPlanner implements IMethodInterceptor, ISuiteListener {
+
+    private static final Logger log = LogManager.getLogger(ShardPlanner.class);
+    static final Path DURATIONS_FILE = Paths.get(System.getProperty("user.dir"), "target", "test-durations.properties");
+    private static final long DEFAULT_DURATION_MS = 60_000;
+
+    @Override
+    public void onStart(ISuite suite) {
+        Properties config = FrameworkConfig.get().asProperties();
+        if (!GridManager.isEnabled(config)) {
+            capThreadsToHost(suite.getXmlSuite(), config);
+            return;
+        }
+        if (!Boolean.parseBoolean(config.getProperty("gridAutoParallel", "true").trim())) {
+            return;
+        }
+        try {
+            GridManager.ensureStarted(config);
+        } catch (Exception e) {
+            log.warn("⚠️ Grid not available for shard planning: " + e.getMessage());
+            return;
+        }
+        int slots = GridManager.getSlotCount(config);
+        if (slots <= 1) return;
+
+        XmlSuite xmlSuite = suite.getXmlSuite();
+        xmlSuite.setParallel(XmlSuite.ParallelMode.METHODS);
+        xmlSuite.setThreadCount(slots);
+        for (XmlTest test : xmlSuite.getTests()) {
+            test.setParallel(XmlSuite.ParallelMode.METHODS);
+            test.setThreadCount(slots);
+        }
+        log.info("Grid mode: running methods in parallel on " + slots + " slots");
+    }
+
+    /**
+     * Local runs: never start more worker threads than the host has session slots for
+     */
+    private void capThreadsToHost(XmlSuite xmlSuite, Properties config) {
+        if (xmlSuite.getParallel() == null || !xmlSuite.getParallel().isParallel()) return;
+        int cap = HostCapacity.getInstance(config).getMaxSessions();
+        if (cap <= 0) return;
+        boolean lowered = false;
+        if (xmlSuite.getThreadCount() > cap) {
+            xmlSuite.setThreadCount(cap);
+            lowered = true;
+        }
+        for (XmlTest test : xmlSuite.getTests()) {
+            if (test.getThreadCount() > cap) {
+                test.setThreadCount(cap);
+                lowered = true;
+            }
+        }
+        if (lowered) {
+            log.info("Thread count lowered to the host session cap of " + cap);
+        }
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        int shardCount = Integer.getInteger("shardCount", 1);
+        int shardIndex = Integer.getInteger("shardIndex", 0);
+        // Plain local runs keep TestNG's order (priority=, dependencies)
+        if (shardCount <= 1 && !GridManager.isEnabled(FrameworkConfig.get().asProperties())) {
+            return methods;
+        }
+        Properties history = loadDurations();
+        int slots = Math.max(1, context.getCurrentXmlTest().getThreadCount());
+
+        // Shard membership must not depend on this JVM's duration history: every shard sorts
+        // the same suite by name and takes every shardCount-th method
+        List<IMethodInstance> byName = new ArrayList<>(methods);
+        byName.sort(Comparator.comparing((IMethodInstance m) -> key(m.getMethod())));
+        List<IMethodInstance> mine = new ArrayList<>();
+        for (int i = 0; i < byName.size(); i++) {
+            if (i % Math.max(1, shardCount) == shardIndex) mine.add(byName.get(i));
+        }
+
+        // Durations only order the shard's own methods, longest first
+        mine.sort(Comparator.comparingLong((IMethodInstance m) -> estimate(history, m.getMethod())).reversed()
+            .thenComparing(m -> key(m.getMethod())));
+
+        long[] slotLoad = new long[slots];
+        for (IMethodInstance m : mine) {
+            slotLoad[indexOfMin(slotLoad)] += estimate(history, m.getMethod());
+        }
+        long makespan = 0;
+        for (long l : slotLoad) makespan = Math.max(makespan, l);
+
+        log.info("Shard plan: " + mine.size() + "/" + methods.size() + " methods"
+            + (shardCount > 1 ? " for shard " + shardIndex + "/" + shardCount : "")
+            + " on " + slots + " slot(s), estimated wall time " + (makespan / 1000) + " s");
+        return mine;
+    }
+
+    private static long estimate(Properties history, ITestNGMethod method) {
+        String value = history.getProperty(key(method));
+        if (value == null) return DEFAULT_DURATION_MS;
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return DEFAULT_DURATION_MS;
+        }
+    }
+
+    static String key(ITestNGMethod method) {
+        return method.getRealClass().getName() + "." + method.getMethodName();
+    }
+
+    private static int indexOfMin(long[] loads) {
+        int min = 0;
+        for (int i = 1; i < loads.length; i++) {
+            if (loads[i] < loads[min]) min = i;
+        }
+        return min;
+    }
+
+    static Properties loadDurations() {
+        Properties p = new Properties();
+        if (Files.exists(DURATIONS_FILE)) {
+            try (InputStream in = new FileInputStream(DURATIONS_FILE.toFile())) {
+                p.load(in);
+            } catch (Exception ignored) {}
+        }
+        return p;
+    }
+
+    /**
+     * Merges new measurements into the history (70% new, 30% old)
+     */
+    static synchronized void saveDurations(Map<String, Long> measured) {
+        Properties p = loadDurations();
+        for (Map.Entry<String, Long> e : measured.entrySet()) {
+            String old = p.getProperty(e.getKey());
+            long value = e.getValue();
+            if (old != null) {
+                try {
+                    value = (long) (0.7 * value + 0.3 * Long.parseLong(old.trim()));
+                } catch (NumberFormatException ignored) {}
+            }
+            p.setProperty(e.getKey(), String.valueOf(value));
+        }
+        try {
+            Files.createDirectories(DURATIONS_FILE.getParent());
+            try (OutputStream out = new FileOutputStream(DURATIONS_FILE.toFile())) {
+                p.store(out, "Average test durations (ms) used by ShardPlanner");
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ Could not save test durations: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package Utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+/**
+ * SlotUtilizationListener - Reports how well the browser slots were used
+ *
+ * Every worker thread holds one browser slot. Time spent in @BeforeMethod, the test and
+ * @AfterMethod counts as busy. At the end of the run this prints per-slot busy time, overall
+ * utilisation and peak concurrency, and stores per-test durations for ShardPlanner.
+ */
+public class SlotUtilizationListener implements IInvokedMethodListener, ISuiteListener {
+
+    private static final Logger log = LogManager.getLogger(SlotUtilizationListener.class);
+
+    private final Map<String, AtomicLong> busyBySlot = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> testsBySlot = new ConcurrentHashMap<>();
+    private final Map<String, Long> testDurations = new ConcurrentHashMap<>();
+    private final ThreadLocal<Long> invocationStart = new ThreadLocal<>();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger peak = new AtomicInteger();
+    private volatile long suiteStart;
+
+    @Override
+    public void onStart(ISuite suite) {
+        suiteStart = System.currentTimeMillis();
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!isSlotWork(method)) return;
+        invocationStart.set(System.currentTimeMillis());
+        if (method.getTestMethod().isBeforeMethodConfiguration()) {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        Long start = invocationStart.get();
+        if (start == null || !isSlotWork(method)) return;
+        invocationStart.remove();
+
+        long elapsed = System.currentTimeMillis() - start;
+        String slot = Thread.currentThread().getName();
+        busyBySlot.computeIfAbsent(slot, k -> new AtomicLong()).addAndGet(elapsed);
+
+        if (method.isTestMethod()) {
+            testsBySlot.computeIfAbsent(slot, k -> new AtomicInteger()).incrementAndGet();
+            testDurations.merge(ShardPlanner.key(method.getTestMethod()), elapsed, Long::sum);
+        } else if (method.getTestMethod().isAfterMethodConfiguration()) {
+            running.decrementAndGet();
+        }
+    }
+
+    private boolean isSlotWork(IInvokedMethod method) {
+        return method.isTestMethod()
+            || method.getTestMethod().isBeforeMethodConfiguration()
+            || method.getTestMethod().isAfterMethodConfiguration();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        long wall = Math.max(1, System.currentTimeMillis() - suiteStart);
+        int slots = busyBySlot.size();
+        if (slots == 0) return;
+
+        long busyTotal = 0;
+        StringBuilder sb = new StringBuilder("\n===== Slot utilisation =====\n");
+        for (Map.Entry<String, AtomicLong> e : busyBySlot.entrySet()) {
+            long busy = e.getValue().get();
+            busyTotal += busy;
+            AtomicInteger tests = testsBySlot.get(e.getKey());
+            sb.append(String.format("  %-30s busy %6d s (%5.1f%%), %d test(s)%n", e.getKey(), busy / 1000,
+                busy * 100.0 / wall, tests == null ? 0 : tests.get()));
+        }
+        sb.append(String.format("  Slots: %d, wall time: %d s, utilisation: %.1f%%, peak concurrent sessions: %d",
+            slots, wall / 1000, busyTotal * 100.0 / (wall * slots), peak.get()));
+        log.info(sb.toString());
+
+        ShardPlanner.saveDurations(testDurations);
+    }
+}
@@ -1,5 +1,6 @@
 package Utils;
 
+import Base.DriverContext;
 import io.qameta.allure.Allure;
 import org.testng.*;
 import org.openqa.selenium.WebDriver;
@@ -15,10 +16,8 @@ public class TestListener implements ITestListener, IConfigurationListener {
 
     private void attachScreenshotIfPossible(ITestResult result) {
         try {
-            Object instance = result.getInstance();
-            if (instance == null) return;
-            // Expect BaseTest-style field named webDriver
-            WebDriver driver = (WebDriver) instance.getClass().getField("webDriver").get(null);
+            // Listener callbacks run on the test's own thread, so this is the failing test's driver
+            WebDriver driver = DriverContext.getDriver();
             if (driver == null) return;
 
             String name = result.getName() + "_failure";
@@ -26,21 +25,6 @@ public class TestListener implements ITestListener, IConfigurationListener {
             if (path != null && Files.exists(Paths.get(path))) {
                 Allure.addAttachment("Failure Screenshot", new FileInputStream(path));
             }
-        } catch (NoSuchFieldException e) {
-            // fallback: try to get protected/static field via reflection on superclass
-            try {
-                Class<?> clazz = result.getInstance().getClass().getSuperclass();
-                if (clazz != null) {
-                    WebDriver driver = (WebDriver) clazz.getDeclaredField("webDriver").get(null);
-                    if (driver != null) {
-                        String name = result.getName() + "_failure";
-                        String path = ScreenshotUtil.captureScreenshot(driver, name);
-                        if (path != null && Files.exists(Paths.get(path))) {
-                            Allure.addAttachment("Failure Screenshot", new FileInputStream(path));
-                        }
-                    }
-                }
-            } catch (Exception ignored) {}
         } catch (Exception ignored) {}
     }
 
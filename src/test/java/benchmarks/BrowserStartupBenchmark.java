@@ -0,0 +1,218 @@
+package benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.WebDriver;
+
+import Actions.PageReadiness;
+import Base.DriverBinaryResolver;
+import Base.DriverFactory;
+import Base.FrameworkConfig;
+
+/**
+ * BrowserStartupBenchmark - Measures what browser startup costs compared with the app itself
+ *
+ * For every browser and option profile it runs one cold iteration and N warm iterations. The
+ * cold one first drops the JVM's driver resolution (DriverBinaryResolver.forget), so every
+ * profile's cold sample includes resolution and service start, not only the first profile's;
+ * OS file caches stay warm, so it is "first launch in this JVM" rather than a cold host boot.
+ * Each step is timed separately:
+ *   session  - DriverFactory.launchDriver (driver service + browser + new session)
+ *   maximize - window().maximize() (skipped for headless-fast, which uses a fixed viewport)
+ *   firstNav - get(url) + PageReadiness on the configured url
+ *   quit     - DriverFactory.quit
+ * Warm timings are reported as p50/p95/p99; peak RSS is the summed resident memory of the
+ * driver and browser processes under this JVM (Linux /proc; shown as n/a elsewhere).
+ * Results are printed and written to target/benchmarks/browser-startup-<timestamp>.csv.
+ *
+ * Run:
+ *   mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=benchmarks.BrowserStartupBenchmark
+ *     -Dbench.browsers=edge,chrome,firefox -Dbench.profiles=headed,headless-fast -Dbench.iterations=10
+ * Any other config.properties key can be overridden the usual way (-DpageLoadStrategy=eager ...).
+ */
+public class BrowserStartupBenchmark {
+
+    private static final String[] STEPS = {"session", "maximize", "firstNav", "quit", "total"};
+
+    public static void main(String[] args) throws Exception {
+        FrameworkConfig settings = FrameworkConfig.get();
+        String[] browsers = System.getProperty("bench.browsers", settings.getBrowser()).split(",");
+        String[] profiles = System.getProperty("bench.profiles", "headed,headless-fast").split(",");
+        int iterations = Integer.getInteger("bench.iterations", 10);
+        boolean navigate = Boolean.parseBoolean(System.getProperty("bench.navigate", "true"));
+
+        List<String> csv = new ArrayList<>();
+        csv.add("browser,profile,phase,step,samples,p50_ms,p95_ms,p99_ms,max_ms,peak_rss_mb");
+        StringBuilder report = new StringBuilder("\n===== Browser startup benchmark ("
+            + iterations + " warm iterations, url=" + (navigate ? settings.getUrl() : "skipped") + ") =====\n");
+
+        for (String browser : browsers) {
+            for (String profile : profiles) {
+                Properties config = settings.asProperties();
+                config.setProperty("browser", browser.trim());
+                config.setProperty("browserMode", profile.trim());
+
+                Scenario cold = new Scenario();
+                Scenario warm = new Scenario();
+                try {
+                    DriverBinaryResolver.forget(browser.trim());
+                    runOnce(config, navigate, cold);
+                    for (int i = 0; i < iterations; i++) {
+                        runOnce(config, navigate, warm);
+                    }
+                } catch (Exception e) {
+                    report.append(String.format("%-8s %-14s FAILED: %s%n", browser, profile, e.getMessage()));
+                    continue;
+                }
+                append(report, csv, browser.trim(), profile.trim(), "cold", cold);
+                append(report, csv, browser.trim(), profile.trim(), "warm", warm);
+            }
+        }
+
+        System.out.println(report);
+        Path dir = Paths.get(System.getProperty("user.dir"), "target", "benchmarks");
+        Files.createDirectories(dir);
+        Path out = dir.resolve("browser-startup-" + System.currentTimeMillis() + ".csv");
+        Files.write(out, csv, StandardCharsets.UTF_8);
+        System.out.println("Results written to " + out);
+        System.exit(0);
+    }
+
+    /**
+     * Timings of one phase (cold or warm) of one browser/profile combination
+     */
+    private static final class Scenario {
+        final Map<String, List<Long>> samples = new LinkedHashMap<>();
+        long peakRssKb = -1;
+
+        Scenario() {
+            for (String step : STEPS) samples.put(step, new ArrayList<>());
+        }
+
+        void add(String step, long nanos) {
+            samples.get(step).add(nanos);
+        }
+    }
+
+    private static void runOnce(Properties config, boolean navigate, Scenario scenario) {
+        RssSampler rss = new RssSampler();
+        rss.start();
+        WebDriver driver = null;
+        long begin = System.nanoTime();
+        try {
+            long t = System.nanoTime();
+            driver = DriverFactory.launchDriver(config);
+            scenario.add("session", System.nanoTime() - t);
+
+            if (DriverFactory.BrowserMode.fromConfig(config) == DriverFactory.BrowserMode.HEADED) {
+                t = System.nanoTime();
+                driver.manage().window().maximize();
+                scenario.add("maximize", System.nanoTime() - t);
+            }
+
+            if (navigate) {
+                t = System.nanoTime();
+                driver.get(config.getProperty("url"));
+                PageReadiness.waitUntilReady(driver,
+                    Duration.ofSeconds(Long.parseLong(config.getProperty("pageReadyTimeout", "30").trim())));
+                scenario.add("firstNav", System.nanoTime() - t);
+            }
+        } finally {
+            if (driver != null) {
+                long t = System.nanoTime();
+                DriverFactory.quit(driver);
+                scenario.add("quit", System.nanoTime() - t);
+            }
+            scenario.add("total", System.nanoTime() - begin);
+            scenario.peakRssKb = Math.max(scenario.peakRssKb, rss.finish());
+        }
+    }
+
+    private static void append(StringBuilder report, List<String> csv, String browser, String profile,
+                               String phase, Scenario scenario) {
+        String rss = scenario.peakRssKb < 0 ? "n/a" : String.valueOf(scenario.peakRssKb / 1024);
+        report.append(String.format("%-8s %-14s %-4s  peak RSS %s MB%n", browser, profile, phase, rss));
+        for (Map.Entry<String, List<Long>> e : scenario.samples.entrySet()) {
+            List<Long> values = e.getValue();
+            if (values.isEmpty()) continue;
+            Collections.sort(values);
+            long p50 = percentile(values, 50), p95 = percentile(values, 95), p99 = percentile(values, 99);
+            long max = values.get(values.size() - 1) / 1_000_000;
+            report.append(String.format("    %-9s n=%-3d p50=%6d ms  p95=%6d ms  p99=%6d ms  max=%6d ms%n",
+                e.getKey(), values.size(), p50, p95, p99, max));
+            csv.add(String.join(",", browser, profile, phase, e.getKey(), String.valueOf(values.size()),
+                String.valueOf(p50), String.valueOf(p95), String.valueOf(p99), String.valueOf(max), rss));
+        }
+    }
+
+    /**
+     * Nearest-rank percentile of sorted nanosecond samples, in milliseconds
+     */
+    static long percentile(List<Long> sorted, int p) {
+        int rank = (int) Math.ceil(p / 100.0 * sorted.size());
+        return sorted.get(Math.max(0, rank - 1)) / 1_000_000;
+    }
+
+    /**
+     * Samples the resident memory of all processes started by this JVM every 100 ms
+     */
+    private static final class RssSampler extends Thread {
+        private final AtomicBoolean running = new AtomicBoolean(true);
+        private final AtomicLong peakKb = new AtomicLong(-1);
+
+        RssSampler() {
+            super("rss-sampler");
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (running.get()) {
+                long total = ProcessHandle.current().descendants()
+                    .mapToLong(p -> rssKb(p.pid()))
+                    .filter(kb -> kb >= 0)
+                    .sum();
+                if (total > 0) peakKb.accumulateAndGet(total, Math::max);
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+
+        long finish() {
+            running.set(false);
+            interrupt();
+            try {
+                join(1000);
+            } catch (InterruptedException ignored) {}
+            return peakKb.get();
+        }
+
+        private static long rssKb(long pid) {
+            Path status = Paths.get("/proc", String.valueOf(pid), "status");
+            try {
+                for (String line : Files.readAllLines(status)) {
+                    if (line.startsWith("VmRSS:")) {
+                        return Long.parseLong(line.replaceAll("[^0-9]", ""));
+                    }
+                }
+            } catch (IOException | NumberFormatException ignored) {}
+            return -1;
+        }
+    }
+}
@@ -20,17 +20,17 @@ public class LoginHelperExample extends BaseTest {
      */
     @Test(priority = 1)
     public void testLoginWithConfiguredAuthType() {
-        reportLogger.info("=== Example 1: Login using configured authType ===");
+        getReportLogger().info("=== Example 1: Login using configured authType ===");
         
         // Create LoginHelper instance
-        LoginHelper loginHelper = new LoginHelper(webDriver, reportLogger, config);
+        LoginHelper loginHelper = new LoginHelper(getDriver(), getReportLogger(), config);
         
         // Perform login based on authType in config.properties
         // If authType=FORM, it will use username+password
         // If authType=SSO, it will use email+password
         loginHelper.performLogin();
         
-        reportLogger.pass("✅ Login completed using configured authentication type");
+        getReportLogger().pass("✅ Login completed using configured authentication type");
     }
     
     /**
@@ -38,14 +38,14 @@ public class LoginHelperExample extends BaseTest {
      */
     @Test(priority = 2)
     public void testForceFormLogin() {
-        reportLogger.info("=== Example 2: Force FORM login ===");
+        getReportLogger().info("=== Example 2: Force FORM login ===");
         
-        LoginHelper loginHelper = new LoginHelper(webDriver, reportLogger, config);
+        LoginHelper loginHelper = new LoginHelper(getDriver(), getReportLogger(), config);
         
         // Force FORM login regardless of config.properties authType
         loginHelper.performLogin(AuthType.FORM);
         
-        reportLogger.pass("✅ FORM login completed");
+        getReportLogger().pass("✅ FORM login completed");
     }
     
     /**
@@ -53,14 +53,14 @@ public class LoginHelperExample extends BaseTest {
      */
     @Test(priority = 3)
     public void testForceSSOLogin() {
-        reportLogger.info("=== Example 3: Force SSO login ===");
+        getReportLogger().info("=== Example 3: Force SSO login ===");
         
-        LoginHelper loginHelper = new LoginHelper(webDriver, reportLogger, config);
+        LoginHelper loginHelper = new LoginHelper(getDriver(), getReportLogger(), config);
         
         // Force SSO login regardless of config.properties authType
         loginHelper.performLogin(AuthType.SSO);
         
-        reportLogger.pass("✅ SSO login completed");
+        getReportLogger().pass("✅ SSO login completed");
     }
     
     /**
@@ -68,9 +68,9 @@ public class LoginHelperExample extends BaseTest {
      */
     @Test(priority = 4)
     public void testFormLoginWithCustomCredentials() {
-        reportLogger.info("=== Example 4: FORM login with custom credentials ===");
+        getReportLogger().info("=== Example 4: FORM login with custom credentials ===");
         
-        LoginHelper loginHelper = new LoginHelper(webDriver, reportLogger, config);
+        LoginHelper loginHelper = new LoginHelper(getDriver(), getReportLogger(), config);
         
         // Provide custom credentials for FORM login
         String customUsername = "TestUser123";
@@ -78,7 +78,7 @@ public class LoginHelperExample extends BaseTest {
         
         loginHelper.performLogin(AuthType.FORM, customUsername, customPassword);
         
-        reportLogger.pass("✅ FORM login with custom credentials completed");
+        getReportLogger().pass("✅ FORM login with custom credentials completed");
     }
     
     /**
@@ -86,9 +86,9 @@ public class LoginHelperExample extends BaseTest {
      */
     @Test(priority = 5)
     public void testSSOLoginWithCustomCredentials() {
-        reportLogger.info("=== Example 5: SSO login with custom credentials ===");
+        getReportLogger().info("=== Example 5: SSO login with custom credentials ===");
         
-        LoginHelper loginHelper = new LoginHelper(webDriver, reportLogger, config);
+        LoginHelper loginHelper = new LoginHelper(getDriver(), getReportLogger(), config);
         
         // Provide custom credentials for SSO login
         String customEmail = "testuser@company.com";
@@ -96,7 +96,7 @@ public class LoginHelperExample extends BaseTest {
         
         loginHelper.performLogin(AuthType.SSO, customEmail, customPassword);
         
-        reportLogger.pass("✅ SSO login with custom credentials completed");
+        getReportLogger().pass("✅ SSO login with custom credentials completed");
     }
 }
 
@@ -70,7 +70,7 @@ public class InitiativeTest extends BaseTest {
     @Story("Initiative Navigation")
     @Severity(SeverityLevel.CRITICAL)
     public void TC_001() throws Throwable {
-        initiativePage = new InitiativePage(webDriver, reportLogger);
+        setInitiativePage(new InitiativePage(getDriver(), getReportLogger()));
         navigateToInitiativePage();
         verifyInitiativeHeader();
         System.out.println("✅ Initiative navigation and header verified");
@@ -87,7 +87,7 @@ public class InitiativeTest extends BaseTest {
     @Story("Initiative Creation")
     @Severity(SeverityLevel.NORMAL)
     public void TC_002(String noi) throws Throwable {
-        initiativePage = new InitiativePage(webDriver, reportLogger);
+        setInitiativePage(new InitiativePage(getDriver(), getReportLogger()));
         navigateToInitiativePage();
         clickInitiativeBeforeAdd();
         clickAddButton();
@@ -116,7 +116,7 @@ public class InitiativeTest extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     public void TC_003(String noi, String title, String description, String bg, 
                        String ou, String startdate, String enddate, String notes) throws Throwable {
-        initiativePage = new InitiativePage(webDriver, reportLogger);
+        setInitiativePage(new InitiativePage(getDriver(), getReportLogger()));
         
         storeParentWindow();
         navigateToInitiativePage();
@@ -152,7 +152,7 @@ public class InitiativeTest extends BaseTest {
     @Story("Initiative Grid Validation - Pagination")
     @Severity(SeverityLevel.CRITICAL)
     public void TC_004() throws Throwable {
-        initiativePage = new InitiativePage(webDriver, reportLogger);
+        setInitiativePage(new InitiativePage(getDriver(), getReportLogger()));
         
         System.out.println("\n═══════════════════════════════════════════════════════");
         System.out.println("🧪 TC_007: Inbox Count vs Total Records (All Pages)");
@@ -198,7 +198,7 @@ public class InitiativeTest extends BaseTest {
     @Story("Initiative Grid Validation - Pagination")
     @Severity(SeverityLevel.CRITICAL)
     public void TC_005() throws Throwable {
-        initiativePage = new InitiativePage(webDriver, reportLogger);
+        setInitiativePage(new InitiativePage(getDriver(), getReportLogger()));
         
         System.out.println("\n═══════════════════════════════════════════════════════");
         System.out.println("⭐ TC_008: Watchlist Count vs Total Records (All Pages)");
@@ -232,121 +232,121 @@ public class InitiativeTest extends BaseTest {
 
     @Step("Navigate to Initiative Page")
     private void navigateToInitiativePage() throws Throwable {
-        initiativePage.navigateToInitiative();
+        getInitiativePage().navigateToInitiative();
     }
 
     @Step("Verify Initiative Header")
     private void verifyInitiativeHeader() throws Throwable {
-        initiativePage.verifyInitiativeHeader("Initiative Management > Initiative");
+        getInitiativePage().verifyInitiativeHeader("Initiative Management > Initiative");
     }
 
     @Step("Click Initiative Before Add")
     private void clickInitiativeBeforeAdd() throws Throwable {
-        initiativePage.Initiativebeforeclickadd();
+        getInitiativePage().Initiativebeforeclickadd();
     }
 
     @Step("Click Add Button")
     private void clickAddButton() throws Throwable {
-        initiativePage.ClickADD();
+        getInitiativePage().ClickADD();
     }
 
     @Step("Select Nature of Initiative: {noi}")
     private void selectNatureOfInitiative(String noi) throws Throwable {
-        initiativePage.SelectNOI(noi);
+        getInitiativePage().SelectNOI(noi);
     }
 
     @Step("Verify Initiative Header After Add")
     private void verifyInitiativeHeaderAfterAdd() throws Throwable {
-        initiativePage.verifyInitiativeHeaderini("Initiative");
+        getInitiativePage().verifyInitiativeHeaderini("Initiative");
     }
 
     @Step("Fill Initiative Details")
     private void fillInitiativeDetails(String title, String description, String bg, 
                                       String ou, String startdate, String enddate) throws Throwable {
-        initiativePage.setInitiativeTitle(title);
-        initiativePage.setInitiativedescription(description);
-        initiativePage.selectInitiativeBGWithActions(bg);
-        initiativePage.selectInitiativeOUWithActions(ou);
-        initiativePage.setInitiativestartdate(startdate);
-        initiativePage.setInitiativeenddate(enddate);
+        getInitiativePage().setInitiativeTitle(title);
+        getInitiativePage().setInitiativedescription(description);
+        getInitiativePage().selectInitiativeBGWithActions(bg);
+        getInitiativePage().selectInitiativeOUWithActions(ou);
+        getInitiativePage().setInitiativestartdate(startdate);
+        getInitiativePage().setInitiativeenddate(enddate);
     }
 
     @Step("Save Draft and Submit Initiative")
     private void saveDraftAndSubmit() throws Throwable {
-        initiativePage.ClickSD();
-        initiativePage.waitForSubmit();
-        initiativePage.ClickSubmit();
+        getInitiativePage().ClickSD();
+        getInitiativePage().waitForSubmit();
+        getInitiativePage().ClickSubmit();
     }
 
     @Step("Store Parent Window")
     private void storeParentWindow() {
-        initiativePage.storeParentWindow();
+        getInitiativePage().storeParentWindow();
         printWindowInfo("After storing parent");
     }
 
     @Step("Save Draft Without Title")
     private void saveDraftWithoutTitle() throws Throwable {
-        initiativePage.ClickSD();
+        getInitiativePage().ClickSD();
     }
 
     @Step("Verify Alert Message")
     private void verifyAlertMessage() throws Throwable {
-        initiativePage.verifyInitiativealtmsg("Initiative Title should not be left blank");
+        getInitiativePage().verifyInitiativealtmsg("Initiative Title should not be left blank");
     }
 
     @Step("Click Inbox Filter")
     private void clickInboxFilter() throws Throwable {
-        initiativePage.clickInboxFilter();
+        getInitiativePage().clickInboxFilter();
     }
 
     @Step("Click Watchlist Filter")
     private void clickWatchlistFilter() throws Throwable {
-        initiativePage.clickWatchlistFilter();
+        getInitiativePage().clickWatchlistFilter();
     }
 
     @Step("Verify Inbox Count Matches Grid")
     private boolean verifyInboxCountMatchesGrid(int recordsPerPage) throws Throwable {
-        return initiativePage.verifyInboxCountMatchesGrid(recordsPerPage);
+        return getInitiativePage().verifyInboxCountMatchesGrid(recordsPerPage);
     }
 
     @Step("Verify Watchlist Count Matches Grid")
     private boolean verifyWatchlistCountMatchesGrid(int recordsPerPage) throws Throwable {
-        return initiativePage.verifyWatchlistCountMatchesGrid(recordsPerPage);
+        return getInitiativePage().verifyWatchlistCountMatchesGrid(recordsPerPage);
     }
 
     @Step("Print Grid Debug Information")
     private void printGridDebugInfo() {
-        initiativePage.printGridDebugInfo();
+        getInitiativePage().printGridDebugInfo();
     }
     
     @Step("Verify Inbox Count Matches Total Records Across All Pages")
     private boolean verifyInboxCountMatchesTotalRecords() throws Throwable {
-        return initiativePage.verifyInboxCountMatchesTotalRecords();
+        return getInitiativePage().verifyInboxCountMatchesTotalRecords();
     }
     
     @Step("Get Total Records Across All Pages")
     private int getTotalRecordsAcrossAllPages() throws Throwable {
-        return initiativePage.getTotalRecordsAcrossAllPages();
+        return getInitiativePage().getTotalRecordsAcrossAllPages();
     }
     
     @Step("Click Forward Arrow")
     private void clickForwardArrow() {
-        initiativePage.clickForwardArrow();
+        getInitiativePage().clickForwardArrow();
     }
     
     @Step("Click Forward Arrow - Ultra Simple")
     private void clickForwardArrowSimple() {
-        initiativePage.clickForwardArrowSimple();
+        getInitiativePage().clickForwardArrowSimple();
     }
     
     @Step("Debug Forward Button")
     private void debugForwardButton() {
-        initiativePage.debugForwardButton();
+        getInitiativePage().debugForwardButton();
     }
     
     @Step("Verify Watchlist Count Matches Total Records Across All Pages")
     private boolean verifyWatchlistCountMatchesTotalRecords() throws Throwable {
-        return initiativePage.verifyWatchlistCountMatchesTotalRecords();
+        return getInitiativePage().verifyWatchlistCountMatchesTotalRecords();
     }
 
     // ==================== WINDOW HANDLING ====================
@@ -358,7 +358,7 @@ public class InitiativeTest extends BaseTest {
      */
     private void printWindowInfo(String stage) {
         try {
-            java.util.Set<String> allHandles = webDriver.getWindowHandles();
+            java.util.Set<String> allHandles = getDriver().getWindowHandles();
             System.out.println("\n" + "=".repeat(60));
             System.out.println("🔍 WINDOW INFO - " + stage);
             System.out.println("=".repeat(60));
@@ -366,12 +366,12 @@ public class InitiativeTest extends BaseTest {
 
             int index = 0;
             for (String handle : allHandles) {
-                boolean isCurrent = handle.equals(webDriver.getWindowHandle());
+                boolean isCurrent = handle.equals(getDriver().getWindowHandle());
                 String marker = isCurrent ? "👉 CURRENT" : "   ";
                 System.out.println(marker + " Window " + index + ": " + handle);
 
-                webDriver.switchTo().window(handle);
-                String title = webDriver.getTitle();
+                getDriver().switchTo().window(handle);
+                String title = getDriver().getTitle();
                 System.out.println("    Title: " + (title.isEmpty() ? "(No Title)" : title));
 
                 index++;
@@ -388,7 +388,7 @@ public class InitiativeTest extends BaseTest {
             Thread.sleep(2000);
             printWindowInfo("After clicking Submit");
 
-            int windowCount = initiativePage.getWindowCount();
+            int windowCount = getInitiativePage().getWindowCount();
             System.out.println("📊 Current window count: " + windowCount);
 
             if (windowCount > 1) {
@@ -405,7 +405,7 @@ public class InitiativeTest extends BaseTest {
             printWindowInfo("On Error");
             
             try {
-                initiativePage.switchToParentWindow();
+                getInitiativePage().switchToParentWindow();
             } catch (Exception ignored) {
                 // Ignore if switch fails
             }
@@ -415,27 +415,27 @@ public class InitiativeTest extends BaseTest {
 
     @Step("Handle Modal as Popup Window")
     private void handleModalAsPopupWindow(String notes) throws Throwable {
-        boolean windowAppeared = initiativePage.waitForNewWindow(2, 10);
+        boolean windowAppeared = getInitiativePage().waitForNewWindow(2, 10);
 
         if (windowAppeared) {
-            boolean switched = initiativePage.switchToModalPopupWindow(
+            boolean switched = getInitiativePage().switchToModalPopupWindow(
                 Locators.InitiativePageLocators.modalPopup,
                 "Submit Comments Modal"
             );
 
             if (switched) {
-                initiativePage.type(
+                getInitiativePage().type(
                     Locators.InitiativePageLocators.additionalNotes,
                     notes,
                     "Additional Notes"
                 );
 
-                initiativePage.clickElementInModal(
+                getInitiativePage().clickElementInModal(
                     Locators.InitiativePageLocators.popSubmit,
                     "Submit Button"
                 );
 
-                initiativePage.closeCurrentWindowAndSwitchToParent();
+                getInitiativePage().closeCurrentWindowAndSwitchToParent();
                 System.out.println("✅ Modal popup handled successfully");
             } else {
                 System.err.println("❌ Failed to switch to modal popup");
@@ -447,7 +447,7 @@ public class InitiativeTest extends BaseTest {
 
     @Step("Handle Modal as Overlay")
     private void handleModalAsOverlay(String notes) throws Throwable {
-        boolean modalVisible = initiativePage.waitForHTMLModal(
+        boolean modalVisible = getInitiativePage().waitForHTMLModal(
             Locators.InitiativePageLocators.modalPopup,
             15
         );
@@ -458,7 +458,7 @@ public class InitiativeTest extends BaseTest {
             Thread.sleep(3000);
             log.info("Waited for modal to be fully interactive");
 
-            initiativePage.typeInModal(
+            getInitiativePage().typeInModal(
                 Locators.InitiativePageLocators.additionalNotes,
                 notes,
                 "Additional Comments"
@@ -468,7 +468,7 @@ public class InitiativeTest extends BaseTest {
             Thread.sleep(2000);
             log.info("Waiting before submit");
 
-            initiativePage.Clickpopsub();
+            getInitiativePage().Clickpopsub();
             log.info("✅ Clicked Submit in modal");
 
             Thread.sleep(2000);
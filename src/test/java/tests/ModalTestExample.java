@@ -35,11 +35,11 @@ public class ModalTestExample extends BaseTest {
             prepareInitiativeForm();
             
             // Click Submit button (opens modal)
-            initiativePage.ClickSubmit();
+            getInitiativePage().ClickSubmit();
             log.info("Clicked Submit button");
             
             // Wait for modal to appear
-            boolean modalVisible = initiativePage.waitForHTMLModal(
+            boolean modalVisible = getInitiativePage().waitForHTMLModal(
                 InitiativePageLocators.modalPopup, 
                 15
             );
@@ -49,14 +49,14 @@ public class ModalTestExample extends BaseTest {
                 
                 // Type comments in modal
                 String comments = "Submitting initiative for approval. Please review and approve.";
-                initiativePage.typeInModal(
+                getInitiativePage().typeInModal(
                     InitiativePageLocators.additionalNotes,
                     comments,
                     "Additional Comments"
                 );
                 
                 // Click Submit button in modal
-                initiativePage.clickElementInModal(
+                getInitiativePage().clickElementInModal(
                     InitiativePageLocators.Submit,
                     "Submit Button"
                 );
@@ -65,11 +65,11 @@ public class ModalTestExample extends BaseTest {
                 Thread.sleep(2000);
                 
                 log.info("✅ Modal submitted successfully");
-                reportLogger.pass("Submit modal handled successfully as overlay");
+                getReportLogger().pass("Submit modal handled successfully as overlay");
                 
             } else {
                 log.error("❌ Modal did not appear");
-                reportLogger.fail("Modal did not appear within timeout");
+                getReportLogger().fail("Modal did not appear within timeout");
             }
             
         } catch (Exception e) {
@@ -88,7 +88,7 @@ public class ModalTestExample extends BaseTest {
     public void testSubmitModalAsPopup() throws Throwable {
         try {
             // Store parent window FIRST
-            initiativePage.storeParentWindow();
+            getInitiativePage().storeParentWindow();
             log.info("Parent window stored");
             
             // Navigate to initiative
@@ -98,17 +98,17 @@ public class ModalTestExample extends BaseTest {
             prepareInitiativeForm();
             
             // Click Submit button (opens popup)
-            initiativePage.ClickSubmit();
+            getInitiativePage().ClickSubmit();
             log.info("Clicked Submit button");
             
             // Wait for new window to appear
-            boolean newWindowAppeared = initiativePage.waitForNewWindow(2, 10);
+            boolean newWindowAppeared = getInitiativePage().waitForNewWindow(2, 10);
             
             if (newWindowAppeared) {
                 log.info("✅ Popup window detected");
                 
                 // Switch to popup window
-                boolean switched = initiativePage.switchToModalPopupWindow(
+                boolean switched = getInitiativePage().switchToModalPopupWindow(
                     InitiativePageLocators.modalPopup,
                     "Submit Comments Modal"
                 );
@@ -118,37 +118,37 @@ public class ModalTestExample extends BaseTest {
                     
                     // Type comments in popup
                     String comments = "Submitting for approval via popup";
-                    initiativePage.typeInModal(
+                    getInitiativePage().typeInModal(
                         InitiativePageLocators.additionalNotes,
                         comments,
                         "Additional Comments"
                     );
                     
                     // Click Submit in popup
-                    initiativePage.clickElementInModal(
+                    getInitiativePage().clickElementInModal(
                         InitiativePageLocators.Submit,
                         "Submit Button"
                     );
                     
                     // Close popup and return to parent
-                    initiativePage.closeCurrentWindowAndSwitchToParent();
+                    getInitiativePage().closeCurrentWindowAndSwitchToParent();
                     
                     log.info("✅ Popup handled and closed");
-                    reportLogger.pass("Submit modal handled successfully as popup");
+                    getReportLogger().pass("Submit modal handled successfully as popup");
                 } else {
                     log.error("❌ Failed to switch to popup");
-                    reportLogger.fail("Failed to switch to popup window");
+                    getReportLogger().fail("Failed to switch to popup window");
                 }
             } else {
                 log.error("❌ New window did not appear");
-                reportLogger.fail("Popup window did not appear within timeout");
+                getReportLogger().fail("Popup window did not appear within timeout");
             }
             
         } catch (Exception e) {
             log.error("Error handling popup: " + e.getMessage(), e);
             // Try to recover
             try {
-                initiativePage.switchToParentWindow();
+                getInitiativePage().switchToParentWindow();
             } catch (Exception ignored) {}
             throw e;
         }
@@ -164,7 +164,7 @@ public class ModalTestExample extends BaseTest {
     public void testSubmitModalAutoDetect() throws Throwable {
         try {
             // Store parent window (safe to do always)
-            initiativePage.storeParentWindow();
+            getInitiativePage().storeParentWindow();
             log.info("Parent window stored");
             
             // Navigate to initiative
@@ -174,14 +174,14 @@ public class ModalTestExample extends BaseTest {
             prepareInitiativeForm();
             
             // Click Submit button
-            initiativePage.ClickSubmit();
+            getInitiativePage().ClickSubmit();
             log.info("🔘 Clicked Submit button");
             
             // Wait for modal to load
             Thread.sleep(2000);
             
             // Auto-detect modal type
-            int windowCount = initiativePage.getWindowCount();
+            int windowCount = getInitiativePage().getWindowCount();
             log.info("📊 Window count: " + windowCount);
             
             String comments = "Submitting initiative for approval. Please review.";
@@ -196,15 +196,15 @@ public class ModalTestExample extends BaseTest {
             }
             
             log.info("✅ Initiative submitted successfully!");
-            reportLogger.pass("Modal handled successfully with auto-detection");
+            getReportLogger().pass("Modal handled successfully with auto-detection");
             
         } catch (Exception e) {
             log.error("❌ Error in testSubmitModalAutoDetect: " + e.getMessage(), e);
-            reportLogger.fail("Error handling modal: " + e.getMessage());
+            getReportLogger().fail("Error handling modal: " + e.getMessage());
             
             // Try to recover by switching back to parent
             try {
-                initiativePage.switchToParentWindow();
+                getInitiativePage().switchToParentWindow();
             } catch (Exception ignored) {}
             
             throw e;
@@ -221,31 +221,31 @@ public class ModalTestExample extends BaseTest {
     public void testJavaScriptAlert() throws Throwable {
         try {
             // Navigate to initiative
-            initiativePage.navigateToInitiative();
-            initiativePage.Initiativebeforeclickadd();
-            initiativePage.ClickADD();
-            initiativePage.SelectNOI("Quick Change Request");
+            getInitiativePage().navigateToInitiative();
+            getInitiativePage().Initiativebeforeclickadd();
+            getInitiativePage().ClickADD();
+            getInitiativePage().SelectNOI("Quick Change Request");
             
             // Try to save WITHOUT required fields (should trigger alert)
-            initiativePage.ClickSD();
+            getInitiativePage().ClickSD();
             log.info("Clicked Save as Draft without filling required fields");
             
             // Wait a moment for alert
             Thread.sleep(1000);
             
             // Check and handle alert
-            if (initiativePage.isAlertPresent()) {
-                String alertText = initiativePage.getAlertText();
+            if (getInitiativePage().isAlertPresent()) {
+                String alertText = getInitiativePage().getAlertText();
                 log.info("⚠️ Alert detected: " + alertText);
                 
                 // Accept the alert
-                initiativePage.handleJavaScriptAlert(true);
+                getInitiativePage().handleJavaScriptAlert(true);
                 
                 log.info("✅ Alert handled successfully");
-                reportLogger.pass("JavaScript alert handled: " + alertText);
+                getReportLogger().pass("JavaScript alert handled: " + alertText);
             } else {
                 log.info("ℹ️ No alert appeared (validation might be different)");
-                reportLogger.info("No JavaScript alert detected");
+                getReportLogger().info("No JavaScript alert detected");
             }
             
         } catch (Exception e) {
@@ -268,27 +268,27 @@ public class ModalTestExample extends BaseTest {
             prepareInitiativeForm();
             
             // Open modal
-            initiativePage.ClickSubmit();
+            getInitiativePage().ClickSubmit();
             log.info("Opened submit modal");
             
             // Wait for modal
-            initiativePage.waitForHTMLModal(InitiativePageLocators.modalPopup, 10);
+            getInitiativePage().waitForHTMLModal(InitiativePageLocators.modalPopup, 10);
             
             // Close modal using ESC key (most reliable)
-            initiativePage.closeModalWithEscape();
+            getInitiativePage().closeModalWithEscape();
             log.info("✅ Modal closed using ESC key");
             
-            reportLogger.pass("Modal closed successfully without submitting");
+            getReportLogger().pass("Modal closed successfully without submitting");
             
             // Alternative ways to close modal (uncomment to test):
             
             // Option 1: Click X button
             // By closeButton = By.xpath("//div[@class='modal-105']//button[@aria-label='Close']");
-            // initiativePage.closeHTMLModal(closeButton);
+            // getInitiativePage().closeHTMLModal(closeButton);
             
             // Option 2: Click backdrop (outside modal)
             // By backdrop = By.xpath("//div[@class='modal-backdrop']");
-            // initiativePage.closeModalByClickingBackdrop(backdrop);
+            // getInitiativePage().closeModalByClickingBackdrop(backdrop);
             
         } catch (Exception e) {
             log.error("Error closing modal: " + e.getMessage(), e);
@@ -302,34 +302,34 @@ public class ModalTestExample extends BaseTest {
 
     @Step("Navigate to Initiative Page")
     private void navigateToInitiativePage() throws Throwable {
-        initiativePage.navigateToInitiative();
-        initiativePage.Initiativebeforeclickadd();
-        initiativePage.ClickADD();
-        initiativePage.SelectNOI("Quick Change Request");
+        getInitiativePage().navigateToInitiative();
+        getInitiativePage().Initiativebeforeclickadd();
+        getInitiativePage().ClickADD();
+        getInitiativePage().SelectNOI("Quick Change Request");
         log.info("Navigated to Initiative form");
     }
 
     @Step("Prepare Initiative Form")
     private void prepareInitiativeForm() throws Throwable {
         // Fill form with test data
-        initiativePage.setInitiativeTitle("Test Initiative - Modal Demo");
-        initiativePage.setInitiativedescription("Testing modal handling functionality");
-        initiativePage.selectInitiativeBGWithActions("Technology");
-        initiativePage.selectInitiativeOUWithActions("IT Operations");
+        getInitiativePage().setInitiativeTitle("Test Initiative - Modal Demo");
+        getInitiativePage().setInitiativedescription("Testing modal handling functionality");
+        getInitiativePage().selectInitiativeBGWithActions("Technology");
+        getInitiativePage().selectInitiativeOUWithActions("IT Operations");
         
         // Save as draft
-        initiativePage.ClickSD();
+        getInitiativePage().ClickSD();
         log.info("Form filled and saved as draft");
         
         // Wait for Submit button to be ready
-        initiativePage.waitForSubmit();
+        getInitiativePage().waitForSubmit();
     }
 
     @Step("Handle Modal as Popup Window")
     private void handleModalAsPopup(String comments) throws Throwable {
         log.info("🪟 Handling as POPUP modal");
         
-        boolean switched = initiativePage.switchToModalPopupWindow(
+        boolean switched = getInitiativePage().switchToModalPopupWindow(
             InitiativePageLocators.modalPopup,
             "Submit Comments Modal"
         );
@@ -337,18 +337,18 @@ public class ModalTestExample extends BaseTest {
         if (switched) {
             log.info("✅ Switched to popup successfully");
             
-            initiativePage.typeInModal(
+            getInitiativePage().typeInModal(
                 InitiativePageLocators.additionalNotes,
                 comments,
                 "Additional Notes"
             );
             
-            initiativePage.clickElementInModal(
+            getInitiativePage().clickElementInModal(
                 InitiativePageLocators.Submit,
                 "Submit Button"
             );
             
-            initiativePage.closeCurrentWindowAndSwitchToParent();
+            getInitiativePage().closeCurrentWindowAndSwitchToParent();
             log.info("✅ Popup modal handled successfully");
         } else {
             log.error("❌ Failed to switch to popup");
@@ -360,7 +360,7 @@ public class ModalTestExample extends BaseTest {
     private void handleModalAsOverlay(String comments) throws Throwable {
         log.info("📋 Handling as OVERLAY modal");
         
-        boolean modalVisible = initiativePage.waitForHTMLModal(
+        boolean modalVisible = getInitiativePage().waitForHTMLModal(
             InitiativePageLocators.modalPopup,
             15
         );
@@ -368,13 +368,13 @@ public class ModalTestExample extends BaseTest {
         if (modalVisible) {
             log.info("✅ Modal appeared successfully");
             
-            initiativePage.typeInModal(
+            getInitiativePage().typeInModal(
                 InitiativePageLocators.additionalNotes,
                 comments,
                 "Additional Notes"
             );
             
-            initiativePage.clickElementInModal(
+            getInitiativePage().clickElementInModal(
                 InitiativePageLocators.Submit,
                 "Submit Button"
             );
@@ -393,15 +393,15 @@ public class ModalTestExample extends BaseTest {
     @Step("Debug Modal Information")
     private void debugModalInfo() {
         log.info("=== MODAL DEBUG INFO ===");
-        log.info("Window count: " + initiativePage.getWindowCount());
-        log.info("Alert present: " + initiativePage.isAlertPresent());
+        log.info("Window count: " + getInitiativePage().getWindowCount());
+        log.info("Alert present: " + getInitiativePage().isAlertPresent());
         
-        java.util.Set<String> handles = webDriver.getWindowHandles();
+        java.util.Set<String> handles = getDriver().getWindowHandles();
         log.info("Total windows: " + handles.size());
         
         int index = 0;
         for (String handle : handles) {
-            boolean isCurrent = handle.equals(webDriver.getWindowHandle());
+            boolean isCurrent = handle.equals(getDriver().getWindowHandle());
             String marker = isCurrent ? "[CURRENT]" : "";
             log.info("  Window " + index + " " + marker + ": " + handle);
             index++;
@@ -18,18 +18,18 @@ public class SSODiagnosticTest extends BaseTest {
         // Disable automatic login
         this.useLoginHelper = false;
         
-        reportLogger.info("===== SSO DIAGNOSTIC TEST STARTED =====");
+        getReportLogger().info("===== SSO DIAGNOSTIC TEST STARTED =====");
         
         try {
             // STEP 1: Initial page state
             System.out.println("\n========================================");
             System.out.println("STEP 1: INITIAL PAGE STATE");
             System.out.println("========================================");
-            System.out.println("URL: " + webDriver.getCurrentUrl());
-            System.out.println("Title: " + webDriver.getTitle());
-            System.out.println("Number of windows: " + webDriver.getWindowHandles().size());
+            System.out.println("URL: " + getDriver().getCurrentUrl());
+            System.out.println("Title: " + getDriver().getTitle());
+            System.out.println("Number of windows: " + getDriver().getWindowHandles().size());
             
-            String originalWindow = webDriver.getWindowHandle();
+            String originalWindow = getDriver().getWindowHandle();
             
             // STEP 2: Find Microsoft button
             System.out.println("\n========================================");
@@ -37,7 +37,7 @@ public class SSODiagnosticTest extends BaseTest {
             System.out.println("========================================");
             
             By microsoftBtnLocator = By.cssSelector("img.ms-2");
-            List<WebElement> microsoftButtons = webDriver.findElements(microsoftBtnLocator);
+            List<WebElement> microsoftButtons = getDriver().findElements(microsoftBtnLocator);
             System.out.println("Microsoft buttons found with 'img.ms-2': " + microsoftButtons.size());
             
             if (microsoftButtons.isEmpty()) {
@@ -54,7 +54,7 @@ public class SSODiagnosticTest extends BaseTest {
                 };
                 
                 for (By locator : altLocators) {
-                    List<WebElement> elements = webDriver.findElements(locator);
+                    List<WebElement> elements = getDriver().findElements(locator);
                     System.out.println("  " + locator + " found: " + elements.size());
                     if (!elements.isEmpty()) {
                         microsoftBtnLocator = locator;
@@ -67,7 +67,7 @@ public class SSODiagnosticTest extends BaseTest {
             if (microsoftButtons.isEmpty()) {
                 System.out.println("\n❌ NO MICROSOFT BUTTON FOUND!");
                 System.out.println("Here are all buttons on the page:");
-                List<WebElement> allButtons = webDriver.findElements(By.tagName("button"));
+                List<WebElement> allButtons = getDriver().findElements(By.tagName("button"));
                 for (int i = 0; i < Math.min(allButtons.size(), 10); i++) {
                     WebElement btn = allButtons.get(i);
                     System.out.println("  Button " + i + ": " + btn.getText() + " | class=" + btn.getAttribute("class"));
@@ -94,10 +94,10 @@ public class SSODiagnosticTest extends BaseTest {
             System.out.println("STEP 4: PAGE STATE AFTER CLICK");
             System.out.println("========================================");
             
-            Set<String> allWindows = webDriver.getWindowHandles();
+            Set<String> allWindows = getDriver().getWindowHandles();
             System.out.println("Number of windows now: " + allWindows.size());
-            System.out.println("Current URL: " + webDriver.getCurrentUrl());
-            System.out.println("Current Title: " + webDriver.getTitle());
+            System.out.println("Current URL: " + getDriver().getCurrentUrl());
+            System.out.println("Current Title: " + getDriver().getTitle());
             
             // STEP 5: Check for popup/new window
             System.out.println("\n========================================");
@@ -108,7 +108,7 @@ public class SSODiagnosticTest extends BaseTest {
                 System.out.println("✅ NEW WINDOW DETECTED - Switching to it");
                 for (String windowHandle : allWindows) {
                     if (!windowHandle.equals(originalWindow)) {
-                        webDriver.switchTo().window(windowHandle);
+                        getDriver().switchTo().window(windowHandle);
                         System.out.println("Switched to new window");
                         break;
                     }
@@ -119,8 +119,8 @@ public class SSODiagnosticTest extends BaseTest {
             }
             
             System.out.println("\nAfter switching:");
-            System.out.println("Current URL: " + webDriver.getCurrentUrl());
-            System.out.println("Current Title: " + webDriver.getTitle());
+            System.out.println("Current URL: " + getDriver().getCurrentUrl());
+            System.out.println("Current Title: " + getDriver().getTitle());
             
             // STEP 6: Search for email field with ALL possible locators
             System.out.println("\n========================================");
@@ -145,7 +145,7 @@ public class SSODiagnosticTest extends BaseTest {
             By workingLocator = null;
             
             for (By locator : emailLocators) {
-                List<WebElement> elements = webDriver.findElements(locator);
+                List<WebElement> elements = getDriver().findElements(locator);
                 System.out.println("  " + locator + " found: " + elements.size());
                 if (!elements.isEmpty() && !foundInMain) {
                     foundInMain = true;
@@ -159,27 +159,27 @@ public class SSODiagnosticTest extends BaseTest {
             System.out.println("STEP 7: CHECKING IFRAMES");
             System.out.println("========================================");
             
-            List<WebElement> iframes = webDriver.findElements(By.tagName("iframe"));
+            List<WebElement> iframes = getDriver().findElements(By.tagName("iframe"));
             System.out.println("Number of iframes: " + iframes.size());
             
             if (!foundInMain && iframes.size() > 0) {
                 for (int i = 0; i < iframes.size(); i++) {
                     try {
-                        webDriver.switchTo().frame(i);
+                        getDriver().switchTo().frame(i);
                         System.out.println("\nChecking iframe " + i + ":");
                         
                         for (By locator : emailLocators) {
-                            List<WebElement> elements = webDriver.findElements(locator);
+                            List<WebElement> elements = getDriver().findElements(locator);
                             if (!elements.isEmpty()) {
                                 System.out.println("  ✅ " + locator + " found: " + elements.size());
                                 workingLocator = locator;
                             }
                         }
                         
-                        webDriver.switchTo().defaultContent();
+                        getDriver().switchTo().defaultContent();
                     } catch (Exception e) {
                         System.out.println("  Error checking iframe " + i);
-                        webDriver.switchTo().defaultContent();
+                        getDriver().switchTo().defaultContent();
                     }
                 }
             }
@@ -196,12 +196,12 @@ public class SSODiagnosticTest extends BaseTest {
                 System.out.println("private By emailField = " + formatLocator(workingLocator) + ";");
             } else {
                 System.out.println("❌ EMAIL FIELD NOT FOUND");
-                System.out.println("\nPage source contains 'email': " + webDriver.getPageSource().contains("email"));
-                System.out.println("Page source contains 'login': " + webDriver.getPageSource().contains("login"));
-                System.out.println("Page source contains 'i0116': " + webDriver.getPageSource().contains("i0116"));
+                System.out.println("\nPage source contains 'email': " + getDriver().getPageSource().contains("email"));
+                System.out.println("Page source contains 'login': " + getDriver().getPageSource().contains("login"));
+                System.out.println("Page source contains 'i0116': " + getDriver().getPageSource().contains("i0116"));
                 
                 System.out.println("\nAll input fields on page:");
-                List<WebElement> allInputs = webDriver.findElements(By.tagName("input"));
+                List<WebElement> allInputs = getDriver().findElements(By.tagName("input"));
                 for (int i = 0; i < Math.min(allInputs.size(), 15); i++) {
                     WebElement input = allInputs.get(i);
                     System.out.println("  Input " + i + ":");
@@ -217,12 +217,12 @@ public class SSODiagnosticTest extends BaseTest {
             System.out.println("DIAGNOSTIC TEST COMPLETED");
             System.out.println("========================================");
             
-            reportLogger.pass("Diagnostic test completed - check console output");
+            getReportLogger().pass("Diagnostic test completed - check console output");
             
         } catch (Exception e) {
             System.out.println("\n❌ ERROR OCCURRED: " + e.getMessage());
             e.printStackTrace();
-            reportLogger.fail("Diagnostic test failed: " + e.getMessage());
+            getReportLogger().fail("Diagnostic test failed: " + e.getMessage());
         }
     }
     
@@ -244,7 +244,7 @@ public class SSODiagnosticTest extends BaseTest {
     @BeforeMethod
     public void setUp(java.lang.reflect.Method method) {
         // Override to disable automatic login
-        reportLogger = extent.createTest(method.getName());
+        setReportLogger(createReportTest(method.getName()));
         log.info("===== Starting Test: " + method.getName() + " =====");
 
         String browser = config.getProperty("browser", "edge").toLowerCase();
@@ -255,13 +255,13 @@ public class SSODiagnosticTest extends BaseTest {
                 io.github.bonigarcia.wdm.WebDriverManager.chromedriver().setup();
                 org.openqa.selenium.chrome.ChromeOptions chromeOptions = new org.openqa.selenium.chrome.ChromeOptions();
                 chromeOptions.addArguments("--disable-notifications");
-                webDriver = new org.openqa.selenium.chrome.ChromeDriver(chromeOptions);
+                setDriver(new org.openqa.selenium.chrome.ChromeDriver(chromeOptions));
                 break;
 
             case "firefox":
                 io.github.bonigarcia.wdm.WebDriverManager.firefoxdriver().setup();
                 org.openqa.selenium.firefox.FirefoxOptions firefoxOptions = new org.openqa.selenium.firefox.FirefoxOptions();
-                webDriver = new org.openqa.selenium.firefox.FirefoxDriver(firefoxOptions);
+                setDriver(new org.openqa.selenium.firefox.FirefoxDriver(firefoxOptions));
                 break;
 
             case "edge":
@@ -275,13 +275,13 @@ public class SSODiagnosticTest extends BaseTest {
                 org.openqa.selenium.edge.EdgeOptions edgeOptions = new org.openqa.selenium.edge.EdgeOptions();
                 edgeOptions.addArguments("--disable-save-password-bubble");
                 edgeOptions.addArguments("--disable-notifications");
-                webDriver = new org.openqa.selenium.edge.EdgeDriver(edgeOptions);
+                setDriver(new org.openqa.selenium.edge.EdgeDriver(edgeOptions));
                 break;
         }
 
-        webDriver.manage().window().maximize();
+        getDriver().manage().window().maximize();
         String appUrl = config.getProperty("url", "URLInconfig");
-        webDriver.get(appUrl);
+        getDriver().get(appUrl);
         
         // Do NOT perform login - this is a diagnostic test
     }